@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -82,6 +85,7 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile LinkedMethod linkedMethod;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -490,6 +494,12 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            LinkedMethod linked = getLinkedMethod();
+            if (linked.canInvoke(pojo, arguments)) {
+                return linked.invoke(pojo, arguments);
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -503,6 +513,19 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the method linked into a method handle, which is linked on first use.
+     */
+    private LinkedMethod getLinkedMethod() {
+        LinkedMethod answer = linkedMethod;
+        if (answer == null) {
+            // its okay if concurrent threads link the method at the same time
+            answer = LinkedMethod.link(method);
+            linkedMethod = answer;
+        }
+        return answer;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -743,6 +766,8 @@ public class MethodInfo {
                         answer = result;
                     } else {
                         // we got a value now try to convert it to the expected type
+                        // (the type converter registry remembers the converter per type pair, so there is no need
+                        // to cache the binding per body type here)
                         answer = exchange.getContext().getTypeConverter().mandatoryConvertTo(parameterType, result);
                     }
                     if (LOG.isTraceEnabled()) {
@@ -769,4 +794,86 @@ public class MethodInfo {
         }
 
     }
+
+    /**
+     * The method linked into a method handle, which can be invoked faster than using reflection.
+     * <p/>
+     * The method handle is only used when the arguments are exactly the types of the method parameters, otherwise the
+     * method is invoked using reflection as before, which then converts the arguments (such as widening primitive
+     * types), or fails with an {@link IllegalArgumentException}.
+     */
+    private static final class LinkedMethod {
+        private static final LinkedMethod NOT_LINKED = new LinkedMethod(null, null, null, null);
+
+        private final MethodHandle handle;
+        private final Class<?> receiverType;
+        private final Class<?>[] argumentTypes;
+        private final boolean[] primitives;
+
+        private LinkedMethod(MethodHandle handle, Class<?> receiverType, Class<?>[] argumentTypes, boolean[] primitives) {
+            this.handle = handle;
+            this.receiverType = receiverType;
+            this.argumentTypes = argumentTypes;
+            this.primitives = primitives;
+        }
+
+        @SuppressWarnings("deprecation")
+        static LinkedMethod link(Method method) {
+            final boolean isStatic = Modifier.isStatic(method.getModifiers());
+            final Class<?>[] types = method.getParameterTypes();
+            final Class<?>[] argumentTypes = new Class<?>[types.length];
+            final boolean[] primitives = new boolean[types.length];
+            for (int i = 0; i < types.length; i++) {
+                argumentTypes[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(types[i]);
+                primitives[i] = types[i].isPrimitive();
+            }
+
+            try {
+                if (!method.isAccessible()) {
+                    method.setAccessible(true);
+                }
+                // adapt the method handle to (Object, Object[])Object so it can be invoked exactly for any method
+                MethodHandle mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+                mh = mh.asType(MethodType.genericMethodType(isStatic ? types.length : types.length + 1));
+                if (isStatic) {
+                    mh = MethodHandles.dropArguments(mh, 0, Object.class);
+                }
+                mh = mh.asSpreader(Object[].class, types.length);
+                return new LinkedMethod(mh, isStatic ? null : method.getDeclaringClass(), argumentTypes, primitives);
+            } catch (Exception e) {
+                LOG.debug("Cannot link method: {} into a method handle, will invoke the method using reflection. Reason: {}",
+                        method, e.getMessage());
+                return NOT_LINKED;
+            }
+        }
+
+        boolean canInvoke(Object pojo, Object[] arguments) {
+            if (handle == null) {
+                return false;
+            }
+            if (receiverType != null && !receiverType.isInstance(pojo)) {
+                return false;
+            }
+            int size = arguments != null ? arguments.length : 0;
+            if (size != argumentTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                Object argument = arguments[i];
+                if (argument == null ? primitives[i] : !argumentTypes[i].isInstance(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Object invoke(Object pojo, Object[] arguments) throws InvocationTargetException {
+            try {
+                return (Object) handle.invokeExact(pojo, arguments);
+            } catch (Throwable e) {
+                // the arguments has been checked, so the exception is thrown by the method itself
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
 }
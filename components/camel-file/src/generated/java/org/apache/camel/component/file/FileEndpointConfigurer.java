@@ -53,6 +53,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": target.setDelete(property(camelContext, boolean.class, value)); return true;
         case "directorymustexist":
         case "directoryMustExist": target.setDirectoryMustExist(property(camelContext, boolean.class, value)); return true;
+        case "directorystream":
+        case "directoryStream": target.setDirectoryStream(property(camelContext, boolean.class, value)); return true;
         case "donefilename":
         case "doneFileName": target.setDoneFileName(property(camelContext, java.lang.String.class, value)); return true;
         case "eagerdeletetargetfile":
@@ -192,6 +194,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "watchdirectory":
+        case "watchDirectory": target.setWatchDirectory(property(camelContext, boolean.class, value)); return true;
+        case "watchreconcileinterval":
+        case "watchReconcileInterval": target.setWatchReconcileInterval(property(camelContext, long.class, value)); return true;
         default: return false;
         }
     }
@@ -231,6 +237,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": return boolean.class;
         case "directorymustexist":
         case "directoryMustExist": return boolean.class;
+        case "directorystream":
+        case "directoryStream": return boolean.class;
         case "donefilename":
         case "doneFileName": return java.lang.String.class;
         case "eagerdeletetargetfile":
@@ -370,6 +378,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "watchdirectory":
+        case "watchDirectory": return boolean.class;
+        case "watchreconcileinterval":
+        case "watchReconcileInterval": return long.class;
         default: return null;
         }
     }
@@ -410,6 +422,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": return target.isDelete();
         case "directorymustexist":
         case "directoryMustExist": return target.isDirectoryMustExist();
+        case "directorystream":
+        case "directoryStream": return target.isDirectoryStream();
         case "donefilename":
         case "doneFileName": return target.getDoneFileName();
         case "eagerdeletetargetfile":
@@ -549,6 +563,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "watchdirectory":
+        case "watchDirectory": return target.isWatchDirectory();
+        case "watchreconcileinterval":
+        case "watchReconcileInterval": return target.getWatchReconcileInterval();
         default: return null;
         }
     }
@@ -20,7 +20,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(95);
+        Set<String> props = new HashSet<>(98);
         props.add("renameUsingCopy");
         props.add("moveExistingFileStrategy");
         props.add("fileName");
@@ -74,6 +74,9 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("localWorkDirectory");
         props.add("startingDirectoryMustExist");
         props.add("directoryMustExist");
+        props.add("directoryStream");
+        props.add("watchDirectory");
+        props.add("watchReconcileInterval");
         props.add("autoCreate");
         props.add("includeExt");
         props.add("readLockIdempotentReleaseAsyncPoolSize");
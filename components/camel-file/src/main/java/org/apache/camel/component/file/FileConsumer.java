@@ -18,15 +18,32 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -44,9 +61,19 @@ import org.slf4j.LoggerFactory;
 public class FileConsumer extends GenericFileConsumer<File> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileConsumer.class);
+    // bounds the number of watched files waiting to be polled, before falling back to list all the files
+    private static final int MAX_WATCHED_PATHS = 100000;
     private final FileConsumerResumeStrategy resumeStrategy;
     private String endpointPath;
     private Set<String> extendedAttributes;
+    // the entry to continue from in the directories where the previous poll stopped (when using directory stream)
+    private final Map<String, String> cursors = new HashMap<>();
+    // the files and directories reported by the watch service which have not been polled yet (when watching directory)
+    private final Set<Path> watchedPaths = Collections.synchronizedSet(new LinkedHashSet<>());
+    private WatchService watchService;
+    private ExecutorService watchExecutor;
+    private volatile boolean fullListing = true;
+    private long lastFullListing;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -70,6 +97,35 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return exchange;
     }
 
+    @Override
+    protected boolean processExchange(Exchange exchange) {
+        // must get the path before processing as the file could potentially be pre moved
+        Path path = getWatchedPath(exchange);
+        boolean answer = super.processExchange(exchange);
+        if (!answer && path != null) {
+            // the file could not be consumed (such as the read lock was not acquired),
+            // so poll it again on the next poll instead of waiting for the reconcile interval
+            LOG.trace("Polling watched file: {} again on next poll", path);
+            watchedPaths.add(path);
+        }
+        return answer;
+    }
+
+    @Override
+    protected void removeExcessiveInProgressFiles(Deque<Exchange> exchanges, int limit) {
+        // the excessive files are not consumed in this batch, so poll them again on the next poll
+        exchanges.stream().skip(limit).map(this::getWatchedPath).filter(Objects::nonNull).forEach(watchedPaths::add);
+        super.removeExcessiveInProgressFiles(exchanges, limit);
+    }
+
+    private Path getWatchedPath(Exchange exchange) {
+        if (watchService == null) {
+            return null;
+        }
+        GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+        return file != null && file.getFile() instanceof File ? ((File) file.getFile()).toPath() : null;
+    }
+
     private boolean pollDirectory(File directory, List<GenericFile<File>> fileList, int depth) {
         depth++;
 
@@ -121,13 +177,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
                     LOG.trace("Adding valid file: {}", file);
                     // matched file so add
                     if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            readAttributes(file, path, allAttributes, attribute);
-                        }
-
-                        gf.setExtendedAttributes(allAttributes);
+                        gf.setExtendedAttributes(readExtendedAttributes(file));
                     }
 
                     fileList.add(gf);
@@ -152,9 +202,299 @@ public class FileConsumer extends GenericFileConsumer<File> {
             return true;
         }
 
+        if (watchService != null) {
+            return pollWatchedDirectory(directory, fileList);
+        }
+        return pollDirectoryListing(directory, fileList, depth);
+    }
+
+    private boolean pollDirectoryListing(File directory, List<GenericFile<File>> fileList, int depth) {
+        if (isDirectoryStream()) {
+            return pollDirectoryStream(directory, fileList, depth);
+        }
         return pollDirectory(directory, fileList, depth);
     }
 
+    /**
+     * Polls the files reported by the watch service, and falls back to list the directory on overflow of the watch
+     * service, or when it is time to reconcile.
+     */
+    private boolean pollWatchedDirectory(File directory, List<GenericFile<File>> fileList) {
+        long now = System.currentTimeMillis();
+        long interval = getEndpoint().getWatchReconcileInterval();
+        if (fullListing || interval > 0 && now - lastFullListing >= interval) {
+            LOG.debug("Listing all files in watched directory: {}", directory);
+            fullListing = false;
+            lastFullListing = now;
+            // clear before listing, as events which happen while listing should be polled again
+            watchedPaths.clear();
+            registerDirectories(directory, 0);
+            boolean answer = pollDirectoryListing(directory, fileList, 0);
+            if (!answer) {
+                // the maxMessagesPerPoll limit was hit, so we need to list the directory again
+                fullListing = true;
+            }
+            return answer;
+        }
+
+        List<Path> paths;
+        synchronized (watchedPaths) {
+            if (watchedPaths.isEmpty()) {
+                return true;
+            }
+            paths = new ArrayList<>(watchedPaths);
+        }
+        Path root = directory.toPath();
+        for (Path path : paths) {
+            // check if we can continue polling in files
+            if (!canPollMoreFiles(fileList)) {
+                return false;
+            }
+            watchedPaths.remove(path);
+            if (!pollWatchedPath(root, path, fileList)) {
+                // the limit was hit while listing a directory, so it must be listed again
+                watchedPaths.add(path);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean pollWatchedPath(Path root, Path path, List<GenericFile<File>> fileList) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // the file may have been deleted or moved in the meantime
+            LOG.trace("Cannot read attributes of watched file: {} due {}. Will skip this file.", path, e.getMessage());
+            return true;
+        }
+
+        File file = path.toFile();
+        int depth = root.relativize(path).getNameCount();
+        GenericFile<File> gf = asGenericFile(endpointPath, file, attributes, getEndpoint().getCharset(),
+                getEndpoint().isProbeContentType());
+
+        if (attributes.isDirectory()) {
+            // a new directory, which may already have files before it was registered with the watch service
+            if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, null)) {
+                registerDirectories(file, depth);
+                return pollDirectoryListing(file, fileList, depth);
+            }
+            return true;
+        }
+
+        if (getEndpoint().getDoneFileName() != null && getEndpoint().isDoneFile(file.getName())) {
+            // the file(s) which the done file is for may already have been rejected, so list the directory again
+            LOG.trace("Done file: {} was created, listing its directory", file);
+            return pollDirectoryListing(file.getParentFile(), fileList, depth - 1);
+        }
+
+        boolean withinDepth = depth == 1 || endpoint.isRecursive() && depth <= endpoint.getMaxDepth();
+        if (withinDepth && depth >= endpoint.minDepth && isValidFile(gf, false, null)) {
+            LOG.trace("Adding valid watched file: {}", file);
+            if (extendedAttributes != null) {
+                gf.setExtendedAttributes(readExtendedAttributes(file));
+            }
+            fileList.add(gf);
+        }
+        return true;
+    }
+
+    /**
+     * Registers the directory, and its sub directories (if recursive), with the watch service
+     *
+     * @param directory the directory
+     * @param depth     the depth of the directory (0 for the starting directory)
+     */
+    private void registerDirectories(File directory, int depth) {
+        Path start = directory.toPath();
+        // the files in the directories must be within the max depth
+        int levels = endpoint.isRecursive() ? endpoint.getMaxDepth() - depth : 1;
+        if (levels <= 0) {
+            return;
+        }
+        try {
+            Files.walkFileTree(start, EnumSet.noneOf(FileVisitOption.class), levels,
+                    new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                            if (!dir.equals(start)) {
+                                GenericFile<File> gf = asGenericFile(endpointPath, dir.toFile(), attrs,
+                                        getEndpoint().getCharset(), false);
+                                if (!isValidFile(gf, true, null)) {
+                                    return FileVisitResult.SKIP_SUBTREE;
+                                }
+                            }
+                            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                    StandardWatchEventKinds.ENTRY_MODIFY);
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException e) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        } catch (IOException e) {
+            throw new GenericFileOperationFailedException("Cannot watch directory: " + directory, e);
+        }
+    }
+
+    private void watchDirectories() {
+        while (isRunAllowed()) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || watchedPaths.size() >= MAX_WATCHED_PATHS) {
+                    LOG.debug("Overflow of events from watched directory: {}. The next poll will list all files.", dir);
+                    fullListing = true;
+                } else {
+                    watchedPaths.add(dir.resolve((Path) event.context()));
+                }
+            }
+            if (!key.reset()) {
+                LOG.trace("Directory: {} is no longer watched", dir);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // must watch before the consumer starts polling
+        if (getEndpoint().isWatchDirectory()) {
+            File directory = new File(endpointPath);
+            watchService = directory.toPath().getFileSystem().newWatchService();
+            fullListing = true;
+            watchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "FileWatcher");
+            watchExecutor.submit(this::watchDirectories);
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+        if (watchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(watchExecutor);
+            watchExecutor = null;
+        }
+        watchedPaths.clear();
+    }
+
+    private boolean isDirectoryStream() {
+        // pre sort and resume strategy needs all the files in the directory
+        return getEndpoint().isDirectoryStream() && !getEndpoint().isPreSort() && resumeStrategy == null;
+    }
+
+    private boolean pollDirectoryStream(File directory, List<GenericFile<File>> fileList, int depth) {
+        depth++;
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Polling directory stream: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
+        }
+
+        // continue from where the previous poll stopped in this directory (if any), and then wrap around to the
+        // entries before that, so the first entries are not evaluated over and over again on every poll
+        String cursor = cursors.remove(directory.getAbsolutePath());
+        if (cursor != null) {
+            LOG.trace("Continue polling directory: {} from: {}", directory, cursor);
+            if (!pollDirectoryStream(directory, fileList, depth, cursor, null)) {
+                return false;
+            }
+        }
+        return pollDirectoryStream(directory, fileList, depth, null, cursor);
+    }
+
+    /**
+     * Polls the directory using a directory stream
+     *
+     * @param  from  skip the entries before this entry (or <tt>null</tt> to start from the first entry)
+     * @param  until stop at this entry (or <tt>null</tt> to continue until the last entry)
+     * @return       whether or not to continue polling, <tt>false</tt> means the maxMessagesPerPoll limit has been hit
+     */
+    private boolean pollDirectoryStream(
+            File directory, List<GenericFile<File>> fileList, int depth, String from, String until) {
+        boolean skip = from != null;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (skip) {
+                    if (!name.equals(from)) {
+                        continue;
+                    }
+                    skip = false;
+                } else if (name.equals(until)) {
+                    return true;
+                }
+
+                // check if we can continue polling in files, otherwise remember where to continue from next time
+                if (!canPollMoreFiles(fileList) || !pollDirectoryStreamEntry(path, fileList, depth)) {
+                    cursors.put(directory.getAbsolutePath(), name);
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new GenericFileOperationFailedException("Cannot list directory: " + directory, e);
+        }
+        return true;
+    }
+
+    private boolean pollDirectoryStreamEntry(Path path, List<GenericFile<File>> fileList, int depth) {
+        // read the attributes in bulk instead of one by one
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // the file may have been deleted in the meantime
+            LOG.trace("Cannot read attributes of file: {} due {}. Will skip this file.", path, e.getMessage());
+            return true;
+        }
+
+        File file = path.toFile();
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found file: {} [isDirectory: {}, isRegularFile: {}]", file, attributes.isDirectory(),
+                    attributes.isRegularFile());
+        }
+
+        // creates a generic file
+        GenericFile<File> gf = asGenericFile(endpointPath, file, attributes, getEndpoint().getCharset(),
+                getEndpoint().isProbeContentType());
+
+        if (attributes.isDirectory()) {
+            if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, null)) {
+                return pollDirectoryStream(file, fileList, depth);
+            }
+        } else if (depth >= endpoint.minDepth && isValidFile(gf, false, null)) {
+            LOG.trace("Adding valid file: {}", file);
+            // matched file so add
+            if (extendedAttributes != null) {
+                gf.setExtendedAttributes(readExtendedAttributes(file));
+            }
+            fileList.add(gf);
+        }
+        return true;
+    }
+
     private File[] listFiles(File directory) {
         final File[] dirFiles = directory.listFiles();
 
@@ -181,6 +521,15 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return dirFiles;
     }
 
+    private Map<String, Object> readExtendedAttributes(File file) {
+        Path path = file.toPath();
+        Map<String, Object> allAttributes = new HashMap<>();
+        for (String attribute : extendedAttributes) {
+            readAttributes(file, path, allAttributes, attribute);
+        }
+        return allAttributes;
+    }
+
     private void readAttributes(File file, Path path, Map<String, Object> allAttributes, String attribute) {
         try {
             String prefix = null;
@@ -212,6 +561,14 @@ public class FileConsumer extends GenericFileConsumer<File> {
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, File[] files) {
         String onlyName = FileUtil.stripPath(doneFileName);
+        if (files == null) {
+            // the directory is listed as a stream, so check if the done file exists
+            if (new File(file.getFile().getParentFile(), onlyName).exists()) {
+                return true;
+            }
+            LOG.trace("Done file: {} does not exist", doneFileName);
+            return false;
+        }
         // the done file name must be among the files
         for (File f : files) {
             if (f.getName().equals(onlyName)) {
@@ -231,6 +588,28 @@ public class FileConsumer extends GenericFileConsumer<File> {
      * @return                  wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, file.length(), file.isDirectory(), file.lastModified(), charset,
+                probeContentType);
+    }
+
+    /**
+     * Creates a new GenericFile<File> based on the given file and its already read attributes.
+     *
+     * @param  endpointPath     the starting directory the endpoint was configured with
+     * @param  file             the source file
+     * @param  attributes       the attributes of the file
+     * @param  probeContentType whether to probe the content type of the file or not
+     * @return                  wrapped as a GenericFile
+     */
+    public static GenericFile<File> asGenericFile(
+            String endpointPath, File file, BasicFileAttributes attributes, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, attributes.size(), attributes.isDirectory(),
+                attributes.lastModifiedTime().toMillis(), charset, probeContentType);
+    }
+
+    private static GenericFile<File> asGenericFile(
+            String endpointPath, File file, long length, boolean directory, long lastModified, String charset,
+            boolean probeContentType) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -239,8 +618,8 @@ public class FileConsumer extends GenericFileConsumer<File> {
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setFileLength(file.length());
-        answer.setDirectory(file.isDirectory());
+        answer.setFileLength(length);
+        answer.setDirectory(directory);
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -252,7 +631,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
         // to return a consistent answer for all OS platforms.
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
-        answer.setLastModified(file.lastModified());
+        answer.setLastModified(lastModified);
 
         // compute the file path as relative to the starting directory
         File path;
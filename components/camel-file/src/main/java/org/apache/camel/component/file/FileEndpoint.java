@@ -76,6 +76,12 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean directoryStream;
+    @UriParam(label = "consumer,advanced")
+    private boolean watchDirectory;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchReconcileInterval = 60000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -364,6 +370,50 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isDirectoryStream() {
+        return directoryStream;
+    }
+
+    /**
+     * Whether to list the directories using a streaming {@link java.nio.file.DirectoryStream}, which stops listing as
+     * soon as the maxMessagesPerPoll limit is hit, and reads the file attributes in bulk. When the limit is hit then the
+     * consumer remembers where it stopped in each directory, and the next poll continues from there, instead of
+     * starting over with the first files in the directory. This is intended for directories with a very large number of
+     * files. This option is not used when preSort or a resume strategy is configured.
+     */
+    public void setDirectoryStream(boolean directoryStream) {
+        this.directoryStream = directoryStream;
+    }
+
+    public boolean isWatchDirectory() {
+        return watchDirectory;
+    }
+
+    /**
+     * Whether to discover new and changed files using the file system watch service, instead of listing the directory
+     * on every poll. A poll then only considers the files reported by the watch service, which makes polling idle
+     * directories cheap, so a low delay can be used to pick up new files with low latency. All the files are listed on
+     * the first poll, when the watch service overflows, and periodically according to the watchReconcileInterval
+     * option.
+     */
+    public void setWatchDirectory(boolean watchDirectory) {
+        this.watchDirectory = watchDirectory;
+    }
+
+    public long getWatchReconcileInterval() {
+        return watchReconcileInterval;
+    }
+
+    /**
+     * When watchDirectory is enabled, then the interval in millis for listing all the files in the directory, to pick
+     * up files which have been missed or could not be consumed when they were reported by the watch service (such as
+     * when a read lock could not be acquired). Use 0 or negative to only list all the files on the first poll and on
+     * overflow.
+     */
+    public void setWatchReconcileInterval(long watchReconcileInterval) {
+        this.watchReconcileInterval = watchReconcileInterval;
+    }
+
     public FileConsumerResumeStrategy getResumeStrategy() {
         return resumeStrategy;
     }
@@ -17,7 +17,7 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -27,9 +27,9 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -287,13 +287,11 @@ public class FileOperations implements GenericFileOperations<File> {
 
             // we can optimize and use file based if no charset must be used,
             // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             File source = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            if (charset == null) {
+                // if no charset, then we can try using file directly (optimized)
                 Object body = exchange.getIn().getBody();
                 if (body instanceof WrappedFile) {
                     WrappedFile wrapped = (WrappedFile) body;
@@ -321,7 +319,8 @@ public class FileOperations implements GenericFileOperations<File> {
                 // a full file to file copy, as the local work copy is to be
                 // deleted afterwards anyway
                 // local work path
-                File local = exchange.getIn().getHeader(Exchange.FILE_LOCAL_WORK_PATH, File.class);
+                // (which cannot be done when content should be appended to the target file)
+                File local = append ? null : exchange.getIn().getHeader(Exchange.FILE_LOCAL_WORK_PATH, File.class);
                 if (local != null && local.exists()) {
                     boolean renamed = writeFileByLocalWorkPath(local, file);
                     if (renamed) {
@@ -385,6 +384,10 @@ public class FileOperations implements GenericFileOperations<File> {
                 // If the body is a string, write it directly
                 String stringBody = (String) exchange.getIn().getBody();
                 writeFileByString(stringBody, file);
+            } else if (exchange.getIn().getBody() instanceof FileChannel) {
+                // If the body is a file channel, then transfer from the channel directly
+                FileChannel channel = (FileChannel) exchange.getIn().getBody();
+                writeFileByChannel(channel, file);
             } else {
                 // fallback and use stream based
                 InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
@@ -437,52 +440,96 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
+        if (endpoint.getFileExist() != GenericFileExist.Append && target.exists()
+                && Files.isSameFile(source.toPath(), target.toPath())) {
+            // the file would be truncated before being copied to itself
+            LOG.trace("writeFileByFile skipped as source and target is the same file: {}", target);
+            return;
+        }
         // in case we are using file locks as read-locks then we need to use
         // file channels for copying to support this
         String path = source.getAbsolutePath();
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
         if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
+            try (FileChannel out = prepareOutputFileChannel(target)) {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+                transferFrom(channel, 0, out);
+                writeAppendChars(out);
             }
         } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+                 FileChannel out = prepareOutputFileChannel(target)) {
+                LOG.trace("writeFileByFile using FileChannel.transferTo: {} -> {}", source, target);
+                transferFrom(in, 0, out);
+                writeAppendChars(out);
+            }
+        }
+    }
+
+    private void writeFileByChannel(FileChannel in, File target) throws IOException {
+        try (FileChannel out = prepareOutputFileChannel(target)) {
+            LOG.debug("Using FileChannel to write file: {}", target);
+            transferFrom(in, in.position(), out);
+            writeAppendChars(out);
+        } finally {
+            IOHelper.close(in, target.getName(), LOG);
         }
     }
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
-        try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
-            LOG.debug("Using InputStream to write file: {}", target);
-            int size = endpoint.getBufferSize();
-            byte[] buffer = new byte[size];
-            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                if (bytesRead < size) {
+        try (FileChannel out = prepareOutputFileChannel(target)) {
+            if (in instanceof FileInputStream) {
+                // transfer from the channel of the file, so the content is not copied through the heap
+                LOG.debug("Using FileChannel of InputStream to write file: {}", target);
+                FileChannel channel = ((FileInputStream) in).getChannel();
+                transferFrom(channel, channel.position(), out);
+            } else {
+                LOG.debug("Using InputStream to write file: {}", target);
+                int size = endpoint.getBufferSize();
+                byte[] buffer = new byte[size];
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                int bytesRead;
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    if (bytesRead < size) {
+                        Buffer buf = byteBuffer;
+                        buf.limit(bytesRead);
+                    }
+                    out.write(byteBuffer);
                     Buffer buf = byteBuffer;
-                    buf.limit(bytesRead);
+                    buf.clear();
                 }
-                out.write(byteBuffer);
-                Buffer buf = byteBuffer;
-                buf.clear();
-            }
-
-            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
-            if (append && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
-                out.write(byteBuffer);
-                Buffer buf = byteBuffer;
-                buf.clear();
             }
+            writeAppendChars(out);
         } finally {
             IOHelper.close(in, target.getName(), LOG);
         }
     }
 
+    /**
+     * Transfers the content of the channel from the given position, which allows the operating system to copy the
+     * content directly (zero copy) without copying it through the heap.
+     */
+    private static void transferFrom(FileChannel in, long position, WritableByteChannel out) throws IOException {
+        long size = in.size();
+        while (position < size) {
+            // a transfer can be shorter than requested (such as for files larger than 2gb)
+            long transferred = in.transferTo(position, size - position, out);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+    }
+
+    private void writeAppendChars(WritableByteChannel out) throws IOException {
+        boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+        if (append && endpoint.getAppendChars() != null) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+            out.write(byteBuffer);
+        }
+    }
+
     private void writeFileByReaderWithCharset(Reader in, File target, String charset) throws IOException {
         boolean append = endpoint.getFileExist() == GenericFileExist.Append;
         try (Writer out = Files.newBufferedWriter(target.toPath(), Charset.forName(charset), StandardOpenOption.WRITE,
@@ -530,13 +577,12 @@ public class FileOperations implements GenericFileOperations<File> {
      * Creates and prepares the output file channel. Will position itself in correct position if the file is writable
      * eg. it should append or override any existing content.
      */
-    private SeekableByteChannel prepareOutputFileChannel(File target) throws IOException {
+    private FileChannel prepareOutputFileChannel(File target) throws IOException {
         if (endpoint.getFileExist() == GenericFileExist.Append) {
-            SeekableByteChannel out
-                    = Files.newByteChannel(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
             return out.position(out.size());
         }
-        return Files.newByteChannel(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
+        return FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
                 StandardOpenOption.CREATE);
     }
 }
@@ -73,6 +73,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private boolean prettyPrint;
     private boolean allowJmsType;
     private boolean useList;
+    private boolean lazyLoad;
     private String enableFeatures;
     private String disableFeatures;
     private boolean enableJacksonTypeConverter;
@@ -181,7 +182,10 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
+        if (lazyLoad) {
+            // the iterator reads the values on the fly, and closes the stream when all the values has been read
+            return this.objectMapper.readerFor(clazz).with(schema).readValues(stream);
+        } else if (collectionType != null) {
             CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
             return this.objectMapper.readerFor(collType).with(schema).readValue(stream);
         } else {
@@ -284,6 +288,19 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         this.useList = useList;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the values on the fly, instead of reading the
+     * whole JSON at once. If the JSON is an array then the iterator returns its elements, which allows to split large
+     * JSON arrays in streaming mode.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public List<Module> getModules() {
         return modules;
     }
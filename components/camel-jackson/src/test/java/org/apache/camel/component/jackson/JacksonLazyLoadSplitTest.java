@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.dataformat.JsonDataFormat;
+import org.apache.camel.model.dataformat.JsonLibrary;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JacksonLazyLoadSplitTest extends CamelTestSupport {
+
+    private static final String JSON = "[{\"name\": \"Camel\"}, {\"name\": \"Donkey\"}, {\"name\": \"Horse\"}]";
+
+    @Test
+    public void testUnmarshalIterator() throws Exception {
+        Object result = template.requestBody("direct:unmarshal",
+                new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+
+        Iterator<?> it = assertIsInstanceOf(Iterator.class, result);
+        assertTrue(it.hasNext());
+        assertEquals("Camel", assertIsInstanceOf(TestPojo.class, it.next()).getName());
+        assertEquals("Donkey", assertIsInstanceOf(TestPojo.class, it.next()).getName());
+        assertEquals("Horse", assertIsInstanceOf(TestPojo.class, it.next()).getName());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testSplitStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+
+        template.sendBody("direct:split", new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals("Camel", mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class).getName());
+        assertEquals("Horse", mock.getReceivedExchanges().get(2).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                JacksonDataFormat format = new JacksonDataFormat(TestPojo.class);
+                format.setLazyLoad(true);
+                from("direct:unmarshal").unmarshal(format);
+
+                JsonDataFormat json = new JsonDataFormat(JsonLibrary.Jackson);
+                json.unmarshalType(TestPojo.class).lazyLoad(true);
+                from("direct:split").unmarshal(json).split(body()).streaming().to("mock:result");
+            }
+        };
+    }
+}
@@ -181,6 +181,8 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "requestTimeout": getOrCreateConfiguration(target).setRequestTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": getOrCreateConfiguration(target).setRequestTimeoutCheckerInterval(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "requesttimeoutcheckertimingwheel":
+        case "requestTimeoutCheckerTimingWheel": getOrCreateConfiguration(target).setRequestTimeoutCheckerTimingWheel(property(camelContext, boolean.class, value)); return true;
         case "selector": getOrCreateConfiguration(target).setSelector(property(camelContext, java.lang.String.class, value)); return true;
         case "streammessagetypeenabled":
         case "streamMessageTypeEnabled": getOrCreateConfiguration(target).setStreamMessageTypeEnabled(property(camelContext, boolean.class, value)); return true;
@@ -377,6 +379,8 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "requestTimeout": return long.class;
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": return long.class;
+        case "requesttimeoutcheckertimingwheel":
+        case "requestTimeoutCheckerTimingWheel": return boolean.class;
         case "selector": return java.lang.String.class;
         case "streammessagetypeenabled":
         case "streamMessageTypeEnabled": return boolean.class;
@@ -574,6 +578,8 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "requestTimeout": return getOrCreateConfiguration(target).getRequestTimeout();
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": return getOrCreateConfiguration(target).getRequestTimeoutCheckerInterval();
+        case "requesttimeoutcheckertimingwheel":
+        case "requestTimeoutCheckerTimingWheel": return getOrCreateConfiguration(target).isRequestTimeoutCheckerTimingWheel();
         case "selector": return getOrCreateConfiguration(target).getSelector();
         case "streammessagetypeenabled":
         case "streamMessageTypeEnabled": return getOrCreateConfiguration(target).isStreamMessageTypeEnabled();
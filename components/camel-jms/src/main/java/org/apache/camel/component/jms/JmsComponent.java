@@ -753,6 +753,14 @@ public class JmsComponent extends HeaderFilterStrategyComponent {
         configuration.setRequestTimeoutCheckerInterval(requestTimeoutCheckerInterval);
     }
 
+    public boolean isRequestTimeoutCheckerTimingWheel() {
+        return configuration.isRequestTimeoutCheckerTimingWheel();
+    }
+
+    public void setRequestTimeoutCheckerTimingWheel(boolean requestTimeoutCheckerTimingWheel) {
+        configuration.setRequestTimeoutCheckerTimingWheel(requestTimeoutCheckerTimingWheel);
+    }
+
     public String getReplyTo() {
         return configuration.getReplyTo();
     }
@@ -178,6 +178,11 @@ public class JmsConfiguration implements Cloneable {
                             + " By default Camel checks once per second. But if you must react faster when a timeout occurs,"
                             + " then you can lower this interval, to check more frequently. The timeout is determined by the option requestTimeout.")
     private long requestTimeoutCheckerInterval = 1000L;
+    @UriParam(label = "advanced",
+              description = "Whether to track pending replies in a timing wheel instead of checking every pending reply for timeout"
+                            + " on each run of the timeout checker. This is faster when there are many pending replies at the same time,"
+                            + " at the cost of timeouts being detected up to one requestTimeoutCheckerInterval later.")
+    private boolean requestTimeoutCheckerTimingWheel;
     @UriParam(defaultValue = "1", label = "advanced",
               description = "Specifies the limit for idle executions of a receive task, not having received any message within its execution."
                             + " If this limit is reached, the task will shut down and leave receiving to other executing tasks"
@@ -1806,6 +1811,19 @@ public class JmsConfiguration implements Cloneable {
         this.requestTimeoutCheckerInterval = requestTimeoutCheckerInterval;
     }
 
+    public boolean isRequestTimeoutCheckerTimingWheel() {
+        return requestTimeoutCheckerTimingWheel;
+    }
+
+    /**
+     * Whether to track pending replies in a timing wheel instead of checking every pending reply for timeout on each
+     * run of the timeout checker. This is faster when there are many pending replies at the same time, at the cost of
+     * timeouts being detected up to one requestTimeoutCheckerInterval later.
+     */
+    public void setRequestTimeoutCheckerTimingWheel(boolean requestTimeoutCheckerTimingWheel) {
+        this.requestTimeoutCheckerTimingWheel = requestTimeoutCheckerTimingWheel;
+    }
+
     public String getReplyTo() {
         return replyTo;
     }
@@ -613,6 +613,11 @@ public class JmsEndpoint extends DefaultEndpoint
         return getConfiguration().getRequestTimeoutCheckerInterval();
     }
 
+    @ManagedAttribute
+    public boolean isRequestTimeoutCheckerTimingWheel() {
+        return getConfiguration().isRequestTimeoutCheckerTimingWheel();
+    }
+
     public TaskExecutor getTaskExecutor() {
         return getConfiguration().getTaskExecutor();
     }
@@ -262,6 +262,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         log.trace("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
         correlation = new CorrelationTimeoutMap(
                 scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService);
+        correlation.setTimingWheel(endpoint.isRequestTimeoutCheckerTimingWheel());
         ServiceHelper.startService(correlation);
 
         // create JMS listener and start it
@@ -117,6 +117,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "maxInFlightRequest": getOrCreateConfiguration(target).setMaxInFlightRequest(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": getOrCreateConfiguration(target).setMaxPartitionFetchBytes(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxpendingexchanges":
+        case "maxPendingExchanges": getOrCreateConfiguration(target).setMaxPendingExchanges(property(camelContext, int.class, value)); return true;
         case "maxpollintervalms":
         case "maxPollIntervalMs": getOrCreateConfiguration(target).setMaxPollIntervalMs(property(camelContext, java.lang.Long.class, value)); return true;
         case "maxpollrecords":
@@ -133,6 +135,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": getOrCreateConfiguration(target).setNoOfMetricsSample(property(camelContext, java.lang.Integer.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": getOrCreateConfiguration(target).setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelprocessingorder":
+        case "parallelProcessingOrder": getOrCreateConfiguration(target).setParallelProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": getOrCreateConfiguration(target).setParallelProcessingThreads(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": getOrCreateConfiguration(target).setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -331,6 +337,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "maxInFlightRequest": return java.lang.Integer.class;
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": return java.lang.Integer.class;
+        case "maxpendingexchanges":
+        case "maxPendingExchanges": return int.class;
         case "maxpollintervalms":
         case "maxPollIntervalMs": return java.lang.Long.class;
         case "maxpollrecords":
@@ -347,6 +355,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": return java.lang.Integer.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelprocessingorder":
+        case "parallelProcessingOrder": return java.lang.String.class;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return int.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -541,6 +553,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "maxInFlightRequest": return getOrCreateConfiguration(target).getMaxInFlightRequest();
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": return getOrCreateConfiguration(target).getMaxPartitionFetchBytes();
+        case "maxpendingexchanges":
+        case "maxPendingExchanges": return getOrCreateConfiguration(target).getMaxPendingExchanges();
         case "maxpollintervalms":
         case "maxPollIntervalMs": return getOrCreateConfiguration(target).getMaxPollIntervalMs();
         case "maxpollrecords":
@@ -557,6 +571,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": return getOrCreateConfiguration(target).getNoOfMetricsSample();
         case "offsetrepository":
         case "offsetRepository": return getOrCreateConfiguration(target).getOffsetRepository();
+        case "parallelprocessingorder":
+        case "parallelProcessingOrder": return getOrCreateConfiguration(target).getParallelProcessingOrder();
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return getOrCreateConfiguration(target).getParallelProcessingThreads();
         case "partitionassignor":
         case "partitionAssignor": return getOrCreateConfiguration(target).getPartitionAssignor();
         case "partitionkey":
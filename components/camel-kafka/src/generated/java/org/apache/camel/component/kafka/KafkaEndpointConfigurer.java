@@ -111,6 +111,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "maxInFlightRequest": target.getConfiguration().setMaxInFlightRequest(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": target.getConfiguration().setMaxPartitionFetchBytes(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxpendingexchanges":
+        case "maxPendingExchanges": target.getConfiguration().setMaxPendingExchanges(property(camelContext, int.class, value)); return true;
         case "maxpollintervalms":
         case "maxPollIntervalMs": target.getConfiguration().setMaxPollIntervalMs(property(camelContext, java.lang.Long.class, value)); return true;
         case "maxpollrecords":
@@ -127,6 +129,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": target.getConfiguration().setNoOfMetricsSample(property(camelContext, java.lang.Integer.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": target.getConfiguration().setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelprocessingorder":
+        case "parallelProcessingOrder": target.getConfiguration().setParallelProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": target.getConfiguration().setParallelProcessingThreads(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": target.getConfiguration().setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -317,6 +323,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "maxInFlightRequest": return java.lang.Integer.class;
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": return java.lang.Integer.class;
+        case "maxpendingexchanges":
+        case "maxPendingExchanges": return int.class;
         case "maxpollintervalms":
         case "maxPollIntervalMs": return java.lang.Long.class;
         case "maxpollrecords":
@@ -333,6 +341,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": return java.lang.Integer.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelprocessingorder":
+        case "parallelProcessingOrder": return java.lang.String.class;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return int.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -524,6 +536,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "maxInFlightRequest": return target.getConfiguration().getMaxInFlightRequest();
         case "maxpartitionfetchbytes":
         case "maxPartitionFetchBytes": return target.getConfiguration().getMaxPartitionFetchBytes();
+        case "maxpendingexchanges":
+        case "maxPendingExchanges": return target.getConfiguration().getMaxPendingExchanges();
         case "maxpollintervalms":
         case "maxPollIntervalMs": return target.getConfiguration().getMaxPollIntervalMs();
         case "maxpollrecords":
@@ -540,6 +554,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": return target.getConfiguration().getNoOfMetricsSample();
         case "offsetrepository":
         case "offsetRepository": return target.getConfiguration().getOffsetRepository();
+        case "parallelprocessingorder":
+        case "parallelProcessingOrder": return target.getConfiguration().getParallelProcessingOrder();
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return target.getConfiguration().getParallelProcessingThreads();
         case "partitionassignor":
         case "partitionAssignor": return target.getConfiguration().getPartitionAssignor();
         case "partitionkey":
@@ -20,7 +20,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(103);
+        Set<String> props = new HashSet<>(106);
         props.add("synchronous");
         props.add("queueBufferingMaxMessages");
         props.add("allowManualCommit");
@@ -75,6 +75,8 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("reconnectBackoffMs");
         props.add("groupId");
         props.add("offsetRepository");
+        props.add("parallelProcessingOrder");
+        props.add("parallelProcessingThreads");
         props.add("kerberosRenewJitter");
         props.add("sslProvider");
         props.add("saslKerberosServiceName");
@@ -115,6 +117,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("schemaRegistryURL");
         props.add("headerDeserializer");
         props.add("maxInFlightRequest");
+        props.add("maxPendingExchanges");
         props.add("exchangePattern");
         props.add("valueSerializer");
         props.add("autoOffsetReset");
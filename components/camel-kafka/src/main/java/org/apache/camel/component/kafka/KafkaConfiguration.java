@@ -142,6 +142,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
+    private int parallelProcessingThreads;
+    @UriParam(label = "consumer", defaultValue = "partition", enums = "partition,key")
+    private String parallelProcessingOrder = "partition";
+    @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
     @UriParam(label = "consumer", defaultValue = "ERROR_HANDLER")
     private PollOnError pollOnError = PollOnError.ERROR_HANDLER;
@@ -163,6 +167,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private Integer workerPoolCoreSize = 10;
     @UriParam(label = "producer", defaultValue = "20")
     private Integer workerPoolMaxSize = 20;
+    @UriParam(label = "producer")
+    private int maxPendingExchanges;
 
     // Async producer config
     @UriParam(label = "producer", defaultValue = "10000")
@@ -801,6 +807,35 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public int getParallelProcessingThreads() {
+        return parallelProcessingThreads;
+    }
+
+    /**
+     * The number of threads each consumer uses to process the polled records in parallel. By default (0) the records
+     * are processed one at a time by the consumer thread that polled them. When parallel processing is enabled, then
+     * the records are still processed in order for each partition (or key, see parallelProcessingOrder), and the
+     * consumer commits the offset of the records of each partition that have all been processed. Parallel processing
+     * cannot be used together with breakOnFirstError or allowManualCommit.
+     */
+    public void setParallelProcessingThreads(int parallelProcessingThreads) {
+        this.parallelProcessingThreads = parallelProcessingThreads;
+    }
+
+    public String getParallelProcessingOrder() {
+        return parallelProcessingOrder;
+    }
+
+    /**
+     * When processing records in parallel (see parallelProcessingThreads), then whether records are processed in order
+     * per partition, or per message key. Ordering by key allows records from the same partition to be processed in
+     * parallel, while records with the same key are processed in order. Records without a key are processed in order of
+     * their partition. The possible values are: partition or key.
+     */
+    public void setParallelProcessingOrder(String parallelProcessingOrder) {
+        this.parallelProcessingOrder = parallelProcessingOrder;
+    }
+
     public KafkaConsumerResumeStrategy getResumeStrategy() {
         return resumeStrategy;
     }
@@ -1665,6 +1700,20 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.workerPoolMaxSize = workerPoolMaxSize;
     }
 
+    public int getMaxPendingExchanges() {
+        return maxPendingExchanges;
+    }
+
+    /**
+     * The maximum number of exchanges the {@link KafkaProducer} has sent using asynchronous non-blocking processing,
+     * and which are waiting for the kafka server to acknowledge them. When the maximum is reached, then the next
+     * exchange is sent when a pending exchange has been acknowledged, without blocking the thread routing the
+     * exchange. By default (0) there is no maximum.
+     */
+    public void setMaxPendingExchanges(int maxPendingExchanges) {
+        this.maxPendingExchanges = maxPendingExchanges;
+    }
+
     public boolean isRecordMetadata() {
         return recordMetadata;
     }
@@ -59,6 +59,12 @@ public class KafkaConsumer extends DefaultConsumer {
         } else {
             pollExceptionStrategy = new DefaultPollExceptionStrategy(endpoint.getConfiguration().getPollOnError());
         }
+        KafkaConfiguration configuration = endpoint.getConfiguration();
+        if (configuration.getParallelProcessingThreads() > 0
+                && (configuration.isBreakOnFirstError() || configuration.isAllowManualCommit())) {
+            throw new IllegalArgumentException(
+                    "The option parallelProcessingThreads cannot be used together with breakOnFirstError or allowManualCommit");
+        }
     }
 
     @Override
@@ -85,6 +91,11 @@ public class KafkaConsumer extends DefaultConsumer {
         ObjectHelper.ifNotEmpty(configuration.getGroupInstanceId(),
                 v -> props.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, v));
 
+        if (configuration.getParallelProcessingThreads() > 0) {
+            // the offsets of the records processed in parallel are committed by the consumer itself
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
+
         return props;
     }
 
@@ -28,6 +28,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ParallelKafkaRecordProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.PartitionAssignmentListener;
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
 import org.apache.camel.support.BridgeExceptionHandlerToErrorHandler;
@@ -53,6 +54,8 @@ class KafkaFetchRecords implements Runnable {
     private final BridgeExceptionHandlerToErrorHandler bridge;
     private final ReentrantLock lock = new ReentrantLock();
     private final ConcurrentLinkedQueue<KafkaAsyncManualCommit> asyncCommits = new ConcurrentLinkedQueue<>();
+    private PartitionAssignmentListener partitionAssignmentListener;
+    private ParallelKafkaRecordProcessorFacade parallelProcessorFacade;
 
     private boolean retry = true;
     private boolean reconnect; // must be false at init (this is the policy whether to reconnect)
@@ -136,6 +139,7 @@ class KafkaFetchRecords implements Runnable {
         PartitionAssignmentListener listener = new PartitionAssignmentListener(
                 threadId, kafkaConsumer.getEndpoint().getConfiguration(), consumer, lastProcessedOffset,
                 this::isRunnable);
+        partitionAssignmentListener = listener;
 
         if (LOG.isInfoEnabled()) {
             LOG.info("Subscribing {} to {}", threadId, getPrintableTopic());
@@ -164,16 +168,26 @@ class KafkaFetchRecords implements Runnable {
                 LOG.trace("Polling {} from {} with timeout: {}", threadId, getPrintableTopic(), pollTimeoutMs);
             }
 
-            KafkaRecordProcessorFacade recordProcessorFacade = new KafkaRecordProcessorFacade(
-                    kafkaConsumer, lastProcessedOffset, threadId, consumer, asyncCommits);
+            KafkaRecordProcessorFacade recordProcessorFacade = null;
+            if (kafkaConsumer.getEndpoint().getConfiguration().getParallelProcessingThreads() > 0) {
+                parallelProcessorFacade = new ParallelKafkaRecordProcessorFacade(
+                        kafkaConsumer, lastProcessedOffset, threadId, consumer, asyncCommits);
+                partitionAssignmentListener.setParallelProcessorFacade(parallelProcessorFacade);
+            } else {
+                recordProcessorFacade = new KafkaRecordProcessorFacade(
+                        kafkaConsumer, lastProcessedOffset, threadId, consumer, asyncCommits);
+            }
 
             Duration pollDuration = Duration.ofMillis(pollTimeoutMs);
             while (isKafkaConsumerRunnable() && isRetrying() && isConnected()) {
-                ConsumerRecords<Object, Object> allRecords = consumer.poll(pollDuration);
+                ConsumerRecords<Object, Object> allRecords = consumer.poll(parallelProcessorFacade != null
+                        ? parallelProcessorFacade.getPollDuration(pollDuration) : pollDuration);
 
                 processAsyncCommits();
 
-                ProcessingResult result = recordProcessorFacade.processPolledRecords(allRecords);
+                ProcessingResult result = parallelProcessorFacade != null
+                        ? parallelProcessorFacade.processPolledRecords(allRecords)
+                        : recordProcessorFacade.processPolledRecords(allRecords);
 
                 if (result.isBreakOnErrorHit()) {
                     LOG.debug("We hit an error ... setting flags to force reconnect");
@@ -218,6 +232,12 @@ class KafkaFetchRecords implements Runnable {
 
             handleAccordingToStrategy(partitionLastOffset, e);
         } finally {
+            if (parallelProcessorFacade != null) {
+                parallelProcessorFacade.close();
+                partitionAssignmentListener.setParallelProcessorFacade(null);
+                parallelProcessorFacade = null;
+            }
+
             lock.unlock();
 
             // only close if not retry
@@ -277,6 +297,12 @@ class KafkaFetchRecords implements Runnable {
 
     private void commit() {
         processAsyncCommits();
+        if (parallelProcessorFacade != null) {
+            // commit the offsets of the records that have been processed (and not the position of the consumer)
+            parallelProcessorFacade.close();
+            parallelProcessorFacade.commitOffsets(true);
+            return;
+        }
         if (kafkaConsumer.getEndpoint().getConfiguration().isAutoCommitEnable()) {
             if ("async".equals(kafkaConsumer.getEndpoint().getConfiguration().getAutoCommitOnStop())) {
                 LOG.info("Auto commitAsync on stop {} from {}", threadId, getPrintableTopic());
@@ -26,12 +26,14 @@ import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.component.kafka.producer.support.DelegatingCallback;
 import org.apache.camel.component.kafka.producer.support.KafkaProducerCallBack;
+import org.apache.camel.component.kafka.producer.support.KafkaProducerCompletionQueue;
 import org.apache.camel.component.kafka.producer.support.KafkaProducerMetadataCallBack;
 import org.apache.camel.component.kafka.producer.support.KeyValueHolderIterator;
 import org.apache.camel.component.kafka.producer.support.ProducerUtil;
@@ -65,6 +67,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
     private final String endpointTopic;
     private final Integer configPartitionKey;
     private final String configKey;
+    private final KafkaProducerCompletionQueue completionQueue;
 
     public KafkaProducer(KafkaEndpoint endpoint) {
         super(endpoint);
@@ -74,6 +77,9 @@ public class KafkaProducer extends DefaultAsyncProducer {
         endpointTopic = URISupport.extractRemainderPath(URI.create(endpoint.getEndpointUri()), true);
         configPartitionKey = configuration.getPartitionKey();
         configKey = configuration.getKey();
+
+        int maxDrainers = configuration.getWorkerPoolMaxSize() != null ? configuration.getWorkerPoolMaxSize() : 1;
+        completionQueue = new KafkaProducerCompletionQueue(maxDrainers, configuration.getMaxPendingExchanges());
     }
 
     Properties getProps() {
@@ -367,8 +373,31 @@ public class KafkaProducer extends DefaultAsyncProducer {
 
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
-        final KafkaProducerCallBack producerCallBack
-                = new KafkaProducerCallBack(exchange, callback, workerPool, configuration.isRecordMetadata());
+        // hold back the exchange if too many exchanges are pending to be acknowledged (the thread must not wait, as it
+        // may be a worker thread which is needed to continue routing the pending exchanges)
+        if (!completionQueue.tryAcquire(() -> processHeldBack(exchange, callback))) {
+            LOG.trace("Maximum pending exchanges reached, holding back exchange: {}", exchange.getExchangeId());
+            return false;
+        }
+
+        return doProcess(exchange, callback);
+    }
+
+    private void processHeldBack(Exchange exchange, AsyncCallback callback) {
+        // the exchange has been given a permit, and is sent on the worker pool as the exchange is no longer
+        // processed synchronously by the calling thread
+        try {
+            workerPool.submit(() -> doProcess(exchange, doneSync -> callback.done(false)));
+        } catch (RejectedExecutionException e) {
+            completionQueue.release();
+            exchange.setException(e);
+            callback.done(false);
+        }
+    }
+
+    private boolean doProcess(Exchange exchange, AsyncCallback callback) {
+        final KafkaProducerCallBack producerCallBack = new KafkaProducerCallBack(
+                exchange, callback, workerPool, configuration.isRecordMetadata(), completionQueue);
 
         Message message = exchange.getMessage();
         Object body = message.getBody();
@@ -388,6 +417,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
             exchange.setException(e);
         }
 
+        completionQueue.release();
         callback.done(true);
         return true;
     }
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaAsyncManualCommit;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor.serializeOffsetKey;
+
+/**
+ * Processes the polled records in parallel by dispatching them to a number of worker threads.
+ * <p/>
+ * Each worker thread processes its records one at a time, and the records are dispatched to the workers by their
+ * partition (or key), so the records of the same partition (or key) are processed in order. As records of the same
+ * partition can complete out of order, then only the offset up to which all the records of the partition has been
+ * processed is committed.
+ * <p/>
+ * The Kafka consumer is not thread-safe, so all calls to the consumer, including the commits, are done by the thread
+ * polling the consumer. When too many records are waiting to be processed, then the assigned partitions are paused
+ * until the workers have caught up.
+ */
+public class ParallelKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelKafkaRecordProcessorFacade.class);
+
+    private static final Duration PAUSED_POLL_DURATION = Duration.ofMillis(100);
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final KafkaConfiguration configuration;
+    private final Map<String, Long> lastProcessedOffset;
+    private final String threadId;
+    private final org.apache.kafka.clients.consumer.Consumer<?, ?> consumer;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final ExecutorService[] workers;
+    private final boolean orderByKey;
+    private final int maxPendingRecords;
+    private final long commitInterval;
+    private final Map<TopicPartition, PartitionOffsetTracker> trackers = new HashMap<>();
+    private final Set<TopicPartition> pausedPartitions = new HashSet<>();
+    private final AtomicInteger pendingRecords = new AtomicInteger();
+    private long lastCommitTime;
+
+    public ParallelKafkaRecordProcessorFacade(KafkaConsumer camelKafkaConsumer, Map<String, Long> lastProcessedOffset,
+                                              String threadId, org.apache.kafka.clients.consumer.Consumer<?, ?> consumer,
+                                              ConcurrentLinkedQueue<KafkaAsyncManualCommit> asyncCommits) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.lastProcessedOffset = lastProcessedOffset;
+        this.threadId = threadId;
+        this.consumer = consumer;
+        this.kafkaRecordProcessor = new KafkaRecordProcessor(
+                configuration, camelKafkaConsumer.getProcessor(), consumer,
+                camelKafkaConsumer.getEndpoint().getKafkaManualCommitFactory(), threadId, asyncCommits);
+
+        int threads = configuration.getParallelProcessingThreads();
+        this.orderByKey = "key".equals(configuration.getParallelProcessingOrder());
+        int maxPollRecords = configuration.getMaxPollRecords() != null ? configuration.getMaxPollRecords() : 500;
+        this.maxPendingRecords = threads * maxPollRecords;
+        this.commitInterval = configuration.getAutoCommitIntervalMs() != null ? configuration.getAutoCommitIntervalMs() : 5000;
+        this.lastCommitTime = System.currentTimeMillis();
+
+        ExecutorServiceManager manager = camelKafkaConsumer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        this.workers = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = manager.newSingleThreadExecutor(this,
+                    "KafkaConsumer[" + configuration.getTopic() + "] " + threadId + " Worker " + i);
+        }
+    }
+
+    /**
+     * The duration to poll the Kafka consumer, which is shorter while the partitions are paused, so they are resumed
+     * as soon as the workers have caught up.
+     */
+    public Duration getPollDuration(Duration pollDuration) {
+        return pausedPartitions.isEmpty() ? pollDuration : PAUSED_POLL_DURATION;
+    }
+
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Last poll on thread {} resulted on {} records to process in parallel ({} pending)", threadId,
+                    allRecords.count(), pendingRecords.get());
+        }
+
+        for (TopicPartition partition : allRecords.partitions()) {
+            PartitionOffsetTracker tracker = trackers.computeIfAbsent(partition, PartitionOffsetTracker::new);
+
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            for (int i = 0; i < partitionRecords.size(); i++) {
+                ConsumerRecord<Object, Object> record = partitionRecords.get(i);
+                boolean recordHasNext = i < partitionRecords.size() - 1;
+
+                tracker.dispatched(record.offset());
+                pendingRecords.incrementAndGet();
+                getWorker(partition, record).execute(() -> processRecord(tracker, record, recordHasNext));
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastCommitTime >= commitInterval) {
+            commitOffsets(false);
+            lastCommitTime = now;
+        }
+
+        applyBackPressure();
+
+        // errors are handled by the workers, so the consumer never has to break out
+        return ProcessingResult.newUnprocessed();
+    }
+
+    private ExecutorService getWorker(TopicPartition partition, ConsumerRecord<Object, Object> record) {
+        int hash;
+        Object key = record.key();
+        if (orderByKey && key != null) {
+            hash = key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode();
+        } else {
+            hash = partition.hashCode();
+        }
+        return workers[Math.floorMod(hash, workers.length)];
+    }
+
+    private void processRecord(PartitionOffsetTracker tracker, ConsumerRecord<Object, Object> record, boolean recordHasNext) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                    record.offset(), record.key(), record.value());
+        }
+
+        Exchange exchange = camelKafkaConsumer.createExchange(false);
+        try {
+            // the processor handles any exception from the routing with the exception handler
+            kafkaRecordProcessor.processExchange(exchange, tracker.getPartition(), false, recordHasNext, record,
+                    ProcessingResult.newUnprocessed(), camelKafkaConsumer.getExceptionHandler());
+        } catch (Exception e) {
+            camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange, e);
+        } finally {
+            camelKafkaConsumer.releaseExchange(exchange, false);
+            tracker.completed(record.offset());
+            pendingRecords.decrementAndGet();
+        }
+    }
+
+    private void applyBackPressure() {
+        int pending = pendingRecords.get();
+        if (pending >= maxPendingRecords && pausedPartitions.isEmpty()) {
+            Set<TopicPartition> assignment = consumer.assignment();
+            LOG.debug("Pausing {} partitions on thread {} as there are {} records pending to be processed", assignment.size(),
+                    threadId, pending);
+            consumer.pause(assignment);
+            pausedPartitions.addAll(assignment);
+        } else if (pending < maxPendingRecords && !pausedPartitions.isEmpty()) {
+            // partitions that have been revoked in the meantime can not be resumed
+            pausedPartitions.retainAll(consumer.assignment());
+            LOG.debug("Resuming {} partitions on thread {} as there are {} records pending to be processed",
+                    pausedPartitions.size(), threadId, pending);
+            consumer.resume(pausedPartitions);
+            pausedPartitions.clear();
+        }
+    }
+
+    /**
+     * Commits the offsets of the records that have all been processed.
+     *
+     * @param stopping whether the consumer is stopping
+     */
+    public void commitOffsets(boolean stopping) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (PartitionOffsetTracker tracker : trackers.values()) {
+            long offset = tracker.nextOffsetToCommit();
+            if (offset != KafkaRecordProcessor.START_OFFSET) {
+                lastProcessedOffset.put(serializeOffsetKey(tracker.getPartition()), offset);
+                offsets.put(tracker.getPartition(), new OffsetAndMetadata(offset + 1));
+            }
+        }
+
+        if (offsets.isEmpty() || !configuration.getAutoCommitEnable()) {
+            return;
+        }
+
+        if (stopping || configuration.getOffsetRepository() != null) {
+            for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : offsets.entrySet()) {
+                KafkaRecordProcessor.commitOffset(configuration, consumer, entry.getKey(), entry.getValue().offset() - 1,
+                        stopping, false, threadId);
+            }
+        } else {
+            LOG.debug("Auto commitAsync {} offsets {}", threadId, offsets);
+            consumer.commitAsync(offsets, null);
+        }
+    }
+
+    /**
+     * Waits for the pending records of the revoked partitions to be processed, so their offsets can be committed
+     * before the partitions are assigned to another consumer. The records that do not complete in time may be
+     * processed again by the new consumer of their partition.
+     *
+     * @param partitions the revoked partitions
+     * @param stopping   whether the consumer is stopping
+     */
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions, boolean stopping) {
+        long timeout = stopping ? configuration.getShutdownTimeout() : configuration.getCommitTimeoutMs();
+        for (TopicPartition partition : partitions) {
+            PartitionOffsetTracker tracker = trackers.remove(partition);
+            pausedPartitions.remove(partition);
+            if (tracker == null) {
+                continue;
+            }
+
+            try {
+                if (!tracker.awaitCompleted(timeout)) {
+                    LOG.warn("The pending records of {} on thread {} did not finish processing within {} millis",
+                            partition, threadId, timeout);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            long offset = tracker.getCompletedOffset();
+            if (offset != KafkaRecordProcessor.START_OFFSET) {
+                lastProcessedOffset.put(serializeOffsetKey(partition), offset);
+            }
+        }
+    }
+
+    /**
+     * Shuts down the worker threads, waiting for the pending records to be processed.
+     */
+    public void close() {
+        ExecutorServiceManager manager = camelKafkaConsumer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        for (ExecutorService worker : workers) {
+            manager.shutdown(worker);
+        }
+
+        long timeout = configuration.getShutdownTimeout();
+        long deadline = System.currentTimeMillis() + timeout;
+        try {
+            for (ExecutorService worker : workers) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (!worker.awaitTermination(Math.max(remaining, 0), TimeUnit.MILLISECONDS)) {
+                    LOG.warn("The worker threads of {} did not finish processing the pending records within {} millis",
+                            threadId, timeout);
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (ExecutorService worker : workers) {
+            if (!worker.isTerminated()) {
+                manager.shutdownNow(worker);
+            }
+        }
+    }
+}
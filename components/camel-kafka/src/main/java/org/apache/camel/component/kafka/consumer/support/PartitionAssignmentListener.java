@@ -39,6 +39,7 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
     private final Map<String, Long> lastProcessedOffset;
     private final KafkaConsumerResumeStrategy resumeStrategy;
     private Supplier<Boolean> stopStateSupplier;
+    private ParallelKafkaRecordProcessorFacade parallelProcessorFacade;
 
     public PartitionAssignmentListener(String threadId, KafkaConfiguration configuration,
                                        Consumer consumer, Map<String, Long> lastProcessedOffset,
@@ -58,6 +59,11 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
         // if camel is stopping, or we are not running
         boolean stopping = stopStateSupplier.get();
 
+        if (parallelProcessorFacade != null) {
+            // wait for the records being processed in parallel, to know the offsets to commit
+            parallelProcessorFacade.onPartitionsRevoked(partitions, stopping);
+        }
+
         for (TopicPartition partition : partitions) {
             LOG.debug("onPartitionsRevoked: {} from {}", threadId, partition.topic());
 
@@ -69,7 +75,10 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
             try {
                 // only commit offsets if the component has control
                 if (configuration.getAutoCommitEnable()) {
-                    KafkaRecordProcessor.commitOffset(configuration, consumer, partition, offset, stopping, false, threadId);
+                    // when processing in parallel then the kafka client does not auto commit, so force the commit
+                    boolean forceCommit = parallelProcessorFacade != null;
+                    KafkaRecordProcessor.commitOffset(configuration, consumer, partition, offset, stopping, forceCommit,
+                            threadId);
                 }
             } catch (Exception e) {
                 LOG.error("Error saving offset repository state {} from offsetKey {} with offset: {}", threadId, offsetKey,
@@ -89,4 +98,8 @@ public class PartitionAssignmentListener implements ConsumerRebalanceListener {
 
         resumeStrategy.resume(consumer);
     }
+
+    public void setParallelProcessorFacade(ParallelKafkaRecordProcessorFacade parallelProcessorFacade) {
+        this.parallelProcessorFacade = parallelProcessorFacade;
+    }
 }
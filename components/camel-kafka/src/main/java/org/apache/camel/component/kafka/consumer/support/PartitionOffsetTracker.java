@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Keeps track of the offsets of the records of a partition which are being processed in parallel, to know up to which
+ * offset the records have all been processed, and therefore can be committed.
+ * <p/>
+ * The records are dispatched by the thread polling the Kafka consumer, and completed by the worker threads processing
+ * them (in any order).
+ */
+final class PartitionOffsetTracker {
+
+    private final TopicPartition partition;
+    private final NavigableSet<Long> pending = new ConcurrentSkipListSet<>();
+    private volatile long lastDispatchedOffset = KafkaRecordProcessor.START_OFFSET;
+    private long lastCommittedOffset = KafkaRecordProcessor.START_OFFSET;
+
+    PartitionOffsetTracker(TopicPartition partition) {
+        this.partition = partition;
+    }
+
+    TopicPartition getPartition() {
+        return partition;
+    }
+
+    /**
+     * The record with the given offset is dispatched to be processed (called by the polling thread)
+     */
+    void dispatched(long offset) {
+        pending.add(offset);
+        lastDispatchedOffset = offset;
+    }
+
+    /**
+     * The record with the given offset has been processed (called by the worker threads)
+     */
+    void completed(long offset) {
+        pending.remove(offset);
+        if (pending.isEmpty()) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Gets the highest offset where the record, and all the records before it, has been processed (called by the
+     * polling thread).
+     *
+     * @return the offset, or {@link KafkaRecordProcessor#START_OFFSET} if no records has been processed yet
+     */
+    long getCompletedOffset() {
+        // read the last dispatched offset before the pending offsets, as an offset that is no longer pending
+        // has then been completed
+        long dispatched = lastDispatchedOffset;
+        Long first = pending.ceiling(Long.MIN_VALUE);
+        return first != null ? first - 1 : dispatched;
+    }
+
+    /**
+     * Gets the completed offset if it has not already been committed, and marks it as committed (called by the
+     * polling thread).
+     *
+     * @return the offset, or {@link KafkaRecordProcessor#START_OFFSET} if there is nothing new to commit
+     */
+    long nextOffsetToCommit() {
+        long offset = getCompletedOffset();
+        if (offset > lastCommittedOffset) {
+            lastCommittedOffset = offset;
+            return offset;
+        }
+        return KafkaRecordProcessor.START_OFFSET;
+    }
+
+    /**
+     * Waits for the pending records to be processed
+     *
+     * @param  timeout the timeout in millis
+     * @return         <tt>true</tt> if there are no more pending records, <tt>false</tt> if timeout
+     */
+    synchronized boolean awaitCompleted(long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while (hasPending() && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return !hasPending();
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionOffsetTracker[" + partition + "]";
+    }
+}
@@ -19,7 +19,7 @@ package org.apache.camel.component.kafka.producer.support;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.kafka.clients.producer.Callback;
@@ -35,13 +35,14 @@ public final class KafkaProducerCallBack implements Callback {
 
     private final Object body;
     private final AsyncCallback callback;
-    private final LongAdder count = new LongAdder();
+    private final AtomicInteger count = new AtomicInteger();
     private final ExecutorService workerPool;
+    private final KafkaProducerCompletionQueue completionQueue;
     private final boolean record;
     private final List<RecordMetadata> recordMetadataList = new ArrayList<>();
 
     public KafkaProducerCallBack(Object body, AsyncCallback callback, ExecutorService workerPool,
-                                 boolean record) {
+                                 boolean record, KafkaProducerCompletionQueue completionQueue) {
         this.body = body;
         this.callback = callback;
         // The worker pool should be created for both sync and async modes, so checking it
@@ -49,7 +50,8 @@ public final class KafkaProducerCallBack implements Callback {
         assert workerPool != null;
         this.workerPool = workerPool;
         this.record = record;
-        count.increment();
+        this.completionQueue = completionQueue;
+        count.incrementAndGet();
 
         if (record) {
             setRecordMetadata(body, recordMetadataList);
@@ -57,14 +59,14 @@ public final class KafkaProducerCallBack implements Callback {
     }
 
     public void increment() {
-        count.increment();
+        count.incrementAndGet();
     }
 
     public boolean allSent() {
-        count.decrement();
-        if (count.intValue() == 0) {
+        if (count.decrementAndGet() == 0) {
             LOG.trace("All messages sent, continue routing.");
             // was able to get all the work done while queuing the requests
+            completionQueue.release();
             callback.done(true);
 
             return true;
@@ -81,17 +83,16 @@ public final class KafkaProducerCallBack implements Callback {
             recordMetadataList.add(recordMetadata);
         }
 
-        count.decrement();
-        if (count.intValue() == 0) {
+        if (count.decrementAndGet() == 0) {
             // use worker pool to continue routing the exchange
             // as this thread is from Kafka Callback and should not be used
             // by Camel routing
-            workerPool.submit(this::doContinueRouting);
+            completionQueue.complete(this, workerPool);
         }
     }
 
-    private void doContinueRouting() {
-        LOG.trace("All messages sent, continue routing (within thread).");
+    void doContinueRouting() {
+        completionQueue.release();
         callback.done(false);
     }
 
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.producer.support;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Continues routing the exchanges which the Kafka producer has completed sending, in batches on the worker pool.
+ * <p/>
+ * The Kafka producer completes the sends on its I/O thread, which should not be used for routing. Instead of submitting
+ * a task to the worker pool for each exchange, the completed exchanges are queued, and a limited number of worker tasks
+ * drain the queue, so each task continues routing many exchanges when the producer is busy.
+ * <p/>
+ * The number of exchanges which has been sent, but not yet completed, can also be bounded. When the maximum is reached,
+ * then the next exchanges are held back (without blocking the calling thread) and sent when the pending exchanges are
+ * completed, instead of piling up exchanges in memory. The calling thread must not be blocked, as it may be a worker
+ * task continuing routing completed exchanges, which are the only ones that can release the pending exchanges.
+ */
+public final class KafkaProducerCompletionQueue {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaProducerCompletionQueue.class);
+
+    private final Queue<KafkaProducerCallBack> completed = new ConcurrentLinkedQueue<>();
+    // guarded by synchronized on itself, together with handing over the permits
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private final AtomicInteger drainers = new AtomicInteger();
+    private final int maxDrainers;
+    private final Semaphore pending;
+
+    /**
+     * @param maxDrainers the maximum number of worker tasks to continue routing the completed exchanges
+     * @param maxPending  the maximum number of pending exchanges, or 0 for no maximum
+     */
+    public KafkaProducerCompletionQueue(int maxDrainers, int maxPending) {
+        this.maxDrainers = Math.max(1, maxDrainers);
+        this.pending = maxPending > 0 ? new Semaphore(maxPending) : null;
+    }
+
+    /**
+     * Acquires a permit to send an exchange, without waiting.
+     *
+     * @param  onAcquired task to send the exchange when it has been given a permit later, because the maximum number
+     *                    of exchanges are pending
+     * @return            <tt>true</tt> if the permit was acquired and the exchange can be sent now, or <tt>false</tt> if
+     *                    the exchange is held back, and the task is run when a pending exchange has released its permit
+     */
+    public boolean tryAcquire(Runnable onAcquired) {
+        if (pending == null || pending.tryAcquire()) {
+            return true;
+        }
+        synchronized (waiting) {
+            // a permit may have been released meanwhile
+            if (pending.tryAcquire()) {
+                return true;
+            }
+            waiting.add(onAcquired);
+            return false;
+        }
+    }
+
+    /**
+     * Releases the permit of an exchange which is no longer pending. The permit is handed over to the next exchange
+     * which is held back, if any.
+     */
+    public void release() {
+        if (pending == null) {
+            return;
+        }
+        Runnable next;
+        synchronized (waiting) {
+            next = waiting.poll();
+            if (next == null) {
+                pending.release();
+                return;
+            }
+        }
+        next.run();
+    }
+
+    /**
+     * Queues the exchange which the Kafka producer has completed sending, to continue routing on the worker pool.
+     */
+    void complete(KafkaProducerCallBack callBack, ExecutorService workerPool) {
+        completed.add(callBack);
+
+        // only submit a new task if the current tasks are not enough to drain the queue
+        if (tryAddDrainer()) {
+            workerPool.submit(this::drain);
+        }
+    }
+
+    private void drain() {
+        int count = 0;
+        do {
+            KafkaProducerCallBack callBack;
+            while ((callBack = completed.poll()) != null) {
+                count++;
+                try {
+                    callBack.doContinueRouting();
+                } catch (Exception e) {
+                    LOG.warn("Error continue routing exchange after sending to Kafka. This exception is ignored.", e);
+                }
+            }
+            drainers.decrementAndGet();
+            // an exchange may have been queued after the queue was drained, but before the task was no longer counted
+        } while (!completed.isEmpty() && tryAddDrainer());
+
+        LOG.trace("Continued routing {} exchanges (within thread).", count);
+    }
+
+    private boolean tryAddDrainer() {
+        int current = drainers.get();
+        while (current < maxDrainers) {
+            if (drainers.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = drainers.get();
+        }
+        return false;
+    }
+}
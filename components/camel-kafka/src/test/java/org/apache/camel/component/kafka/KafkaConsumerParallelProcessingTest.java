@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class KafkaConsumerParallelProcessingTest extends CamelTestSupport {
+
+    private static final String TOPIC = "test";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final MockConsumer<Object, Object> mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    public KafkaConsumerParallelProcessingTest() {
+        // assign the partition and add the records on the first polls (after the consumer has subscribed)
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(Collections.singletonList(PARTITION));
+            mockConsumer.updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+        });
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, "slow", "slow-0"));
+            for (int i = 1; i < 5; i++) {
+                mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, "fast", "fast-" + i));
+            }
+        });
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        KafkaComponent kafka = new KafkaComponent();
+        kafka.setKafkaClientFactory(new KafkaClientFactory() {
+            @Override
+            public Producer getProducer(Properties kafkaProps) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Consumer getConsumer(Properties kafkaProps) {
+                return mockConsumer;
+            }
+
+            @Override
+            public String getBrokers(KafkaConfiguration configuration) {
+                return "localhost:9092";
+            }
+        });
+        context.addComponent("kafka", kafka);
+        return context;
+    }
+
+    @Test
+    public void testCommitContiguousOffsets() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        // the records with the same key are processed in order
+        mock.expectedBodiesReceived("fast-1", "fast-2", "fast-3", "fast-4");
+
+        // the other records are processed while the first record is still being processed
+        mock.assertIsSatisfied();
+
+        // and therefore no offset can be committed yet
+        Thread.sleep(200);
+        assertNull(committed(), "Should not commit offsets while the first record is being processed");
+
+        mock.reset();
+        mock.expectedBodiesReceived("slow-0");
+
+        latch.countDown();
+
+        mock.assertIsSatisfied();
+
+        // then all the records has been processed
+        await().atMost(5, TimeUnit.SECONDS).until(() -> committed() != null && committed().offset() == 5L);
+    }
+
+    private OffsetAndMetadata committed() {
+        return mockConsumer.committed(Collections.singleton(PARTITION)).get(PARTITION);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("kafka:" + TOPIC + "?groupId=group&pollTimeoutMs=100&autoCommitIntervalMs=10"
+                     + "&parallelProcessingThreads=2&parallelProcessingOrder=key")
+                        .process(e -> {
+                            if ("slow".equals(e.getMessage().getHeader(KafkaConstants.KEY))) {
+                                latch.await(10, TimeUnit.SECONDS);
+                            }
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class KafkaProducerMaxPendingExchangesTest extends CamelTestSupport {
+
+    private final MockProducer<String, String> mockProducer
+            = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        KafkaComponent kafka = new KafkaComponent();
+        kafka.setKafkaClientFactory(new KafkaClientFactory() {
+            @Override
+            public Producer getProducer(Properties kafkaProps) {
+                return mockProducer;
+            }
+
+            @Override
+            public Consumer getConsumer(Properties kafkaProps) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String getBrokers(KafkaConfiguration configuration) {
+                return "localhost:9092";
+            }
+        });
+        context.addComponent("kafka", kafka);
+        return context;
+    }
+
+    @Test
+    public void testMaxPendingExchanges() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C");
+
+        template.asyncSendBody("direct:start", "A");
+        template.asyncSendBody("direct:start", "B");
+        template.asyncSendBody("direct:start", "C");
+
+        // only 2 exchanges can be pending to be acknowledged
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mockProducer.history().size() == 2);
+        Thread.sleep(200);
+        assertEquals(2, mockProducer.history().size());
+
+        // acknowledge the first so the last can be sent
+        mockProducer.completeNext();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mockProducer.history().size() == 3);
+
+        while (mockProducer.completeNext()) {
+            // acknowledge the rest
+        }
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testMaxPendingExchangesFromWorkerThread() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:loop");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B");
+
+        // the second send of each exchange is from the only worker thread, which must not wait for a permit
+        // as it is also needed to continue routing the pending exchange
+        template.asyncSendBody("direct:loop", "A");
+        template.asyncSendBody("direct:loop", "B");
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> {
+            mockProducer.completeNext();
+            return mock.getReceivedCounter() == 2;
+        });
+        assertEquals(4, mockProducer.history().size());
+
+        mock.assertIsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .to("kafka:test?maxPendingExchanges=2")
+                        .to("mock:result");
+
+                from("direct:loop")
+                        .loop(2)
+                            .to("kafka:loop?maxPendingExchanges=1&workerPoolCoreSize=1&workerPoolMaxSize=1")
+                        .end()
+                        .to("mock:loop");
+            }
+        };
+    }
+}
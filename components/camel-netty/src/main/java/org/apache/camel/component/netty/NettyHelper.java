@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.netty;
 
+import java.io.File;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.concurrent.ThreadFactory;
@@ -24,11 +25,13 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.DefaultAddressedEnvelope;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +82,27 @@ public final class NettyHelper {
         return s;
     }
 
+    /**
+     * Gets the body as a file region, if the body is a file, which allows the content of the file to be written to the
+     * socket using zero copy (the file is opened when written, and closed when the file region is released).
+     *
+     * @param  body the current body
+     * @return      the file region, or <tt>null</tt> if the body is not a file
+     */
+    public static DefaultFileRegion getFileRegionBody(Object body) {
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        if (body instanceof File) {
+            File file = (File) body;
+            if (file.isFile()) {
+                LOG.trace("Using file region to write file: {}", file);
+                return new DefaultFileRegion(file, 0, file.length());
+            }
+        }
+        return null;
+    }
+
     /**
      * Writes the given body to Netty channel. Will <b>not</b >wait until the body has been written.
      *
@@ -428,11 +428,25 @@ public class NettyProducer extends DefaultAsyncProducer {
         if (getConfiguration().isTextline()) {
             body = NettyHelper.getTextlineBody(body, exchange, getConfiguration().getDelimiter(),
                     getConfiguration().isAutoAppendDelimiter());
+        } else if (isTcp() && isRawChannel()) {
+            // send files using zero copy, as they can be written directly to the socket
+            Object region = NettyHelper.getFileRegionBody(body);
+            if (region != null) {
+                body = region;
+            }
         }
 
         return body;
     }
 
+    /**
+     * Whether the messages are written to the channel as-is (no encoders and no SSL)
+     */
+    private boolean isRawChannel() {
+        return getConfiguration().getEncoders().isEmpty() && getConfiguration().getClientInitializerFactory() == null
+                && !getConfiguration().isSsl() && getConfiguration().getSslHandler() == null;
+    }
+
     protected EventLoopGroup getWorkerGroup() {
         // prefer using explicit configured thread pools
         EventLoopGroup wg = configuration.getWorkerGroup();
@@ -55,6 +55,7 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
     private CamelContext camelContext;
     private long timeout = 30000;
     private long timeoutChecker = 1000;
+    private boolean timingWheel;
     private LoggingLevel timeoutLoggingLevel = LoggingLevel.DEBUG;
 
     @Override
@@ -90,6 +91,18 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
         this.timeoutChecker = timeoutChecker;
     }
 
+    public boolean isTimingWheel() {
+        return timingWheel;
+    }
+
+    /**
+     * Whether to keep the pending requests in a hashed timing wheel, so checking for timeouts does not scan all the
+     * pending requests. This is recommended when there is a large number of outstanding requests.
+     */
+    public void setTimingWheel(boolean timingWheel) {
+        this.timingWheel = timingWheel;
+    }
+
     public LoggingLevel getTimeoutLoggingLevel() {
         return timeoutLoggingLevel;
     }
@@ -184,7 +197,10 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
             workerPool = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "NettyTimeoutWorkerPool");
         }
 
-        map = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        DefaultTimeoutMap<String, NettyCamelState> timeoutMap
+                = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        timeoutMap.setTimingWheel(timingWheel);
+        map = timeoutMap;
         map.addListener(this::onEviction);
 
         ServiceHelper.startService(map);
@@ -20,9 +20,11 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(21);
         props.add("exchangePattern");
         props.add("pollTimeout");
+        props.add("batchSize");
+        props.add("threadPoolProfile");
         props.add("failIfNoConsumers");
         props.add("waitForTaskToComplete");
         props.add("limitConcurrentConsumers");
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a thread waits on a {@link RingBufferBlockingQueue} when the queue is full (producers) or empty (consumers).
+ */
+public enum RingBufferWaitStrategy {
+
+    /**
+     * Busy spins, which gives the lowest latency, but burns a CPU core per waiting thread. Should only be used when
+     * there are spare cores for all the producer and consumer threads.
+     */
+    Spin,
+
+    /**
+     * Spins for a short while and then yields the thread, which gives low latency while letting other threads run.
+     */
+    Yield,
+
+    /**
+     * Spins and yields for a short while and then parks the thread with an increasing park time (up to 1 millis), which
+     * uses little CPU when the queue is idle.
+     */
+    Park;
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    /**
+     * Waits before the next attempt
+     *
+     * @param counter the number of attempts so far
+     */
+    void idle(int counter) {
+        if (this == Spin || counter < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (this == Yield || counter < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            // exponential backoff from 1 micro second up till 1 millis
+            int shift = Math.min(counter - YIELD_TRIES, 20);
+            LockSupport.parkNanos(Math.min(1000L << shift, MAX_PARK_NANOS));
+        }
+    }
+
+}
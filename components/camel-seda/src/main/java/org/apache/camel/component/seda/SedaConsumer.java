@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -29,8 +32,10 @@ import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
+import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.Synchronization;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
@@ -50,15 +55,20 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    // exchanges drained from the queue (if batch size enabled) which have not been processed yet
+    private final AtomicInteger drainedCount = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
+    private volatile boolean purging;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
     }
 
     @Override
@@ -76,11 +86,12 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     @Override
     public int getPendingExchangesSize() {
         // the route is shutting down, so either we should purge the queue,
-        // or return how many exchanges are still on the queue
+        // or return how many exchanges are still on the queue (or drained from the queue but not processed yet)
         if (getEndpoint().isPurgeWhenStopping()) {
+            purging = true;
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        return getEndpoint().getQueue().size() + drainedCount.get();
     }
 
     @Override
@@ -137,6 +148,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        // exchanges drained from the queue in addition to the polled exchange (if batch size enabled)
+        List<Exchange> batch = batchSize > 1 ? new ArrayList<>(batchSize - 1) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -180,20 +193,17 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // prepare the exchange before sending to consumer
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy result back
-                        ExchangeHelper.copyResults(exchange, newExchange);
-                        // log exception if an exception occurred and was not handled
-                        if (exchange.getException() != null) {
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
+                    processPolledExchange(exchange);
+                    if (batch != null) {
+                        // drain the queue for more exchanges in one go (which takes the queue lock only once),
+                        // and process them one by one (or put them back on the queue if we are stopping)
+                        queue.drainTo(batch, batchSize - 1);
+                        if (!batch.isEmpty()) {
+                            LOG.trace("Drained {} exchanges from queue {}", batch.size(),
+                                    ObjectHelper.getIdentityHashCode(queue));
+                            exchange = null;
+                            processDrainedExchanges(queue, batch);
                         }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -213,6 +223,72 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processDrainedExchanges(BlockingQueue<Exchange> queue, List<Exchange> batch) {
+        int pending = batch.size();
+        drainedCount.addAndGet(pending);
+        try {
+            for (Exchange drained : batch) {
+                // the exchanges not processed yet should be put back on the queue if we are stopping,
+                // so they are either purged, or left on the queue when forced to shutdown
+                if (!isRunAllowed() || purging) {
+                    putBackOnQueue(queue, batch.subList(batch.size() - pending, batch.size()));
+                    break;
+                }
+                processPolledExchange(drained);
+                pending--;
+                drainedCount.decrementAndGet();
+            }
+        } finally {
+            drainedCount.addAndGet(-pending);
+            batch.clear();
+        }
+    }
+
+    private void putBackOnQueue(BlockingQueue<Exchange> queue, List<Exchange> exchanges) {
+        LOG.debug("Consumer is stopping, putting back {} drained exchanges on queue {}", exchanges.size(),
+                ObjectHelper.getIdentityHashCode(queue));
+        if (queue instanceof BlockingDeque) {
+            // put them back in the front of the queue to keep the order
+            BlockingDeque<Exchange> deque = (BlockingDeque<Exchange>) queue;
+            for (int i = exchanges.size() - 1; i >= 0; i--) {
+                if (!deque.offerFirst(exchanges.get(i))) {
+                    failDrainedExchange(exchanges.get(i));
+                }
+            }
+        } else {
+            for (Exchange exchange : exchanges) {
+                if (!queue.offer(exchange)) {
+                    failDrainedExchange(exchange);
+                }
+            }
+        }
+    }
+
+    private void failDrainedExchange(Exchange exchange) {
+        exchange.setException(new RejectedExecutionException(
+                "Cannot put back drained exchange on the queue as it is full: " + getEndpoint()));
+        getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+        // done the completions so a producer waiting for the task to complete is not waiting until it times out
+        UnitOfWorkHelper.doneSynchronizations(exchange, exchange.adapt(ExtendedExchange.class).handoverCompletions(), LOG);
+    }
+
+    private void processPolledExchange(Exchange exchange) {
+        try {
+            // prepare the exchange before sending to consumer
+            Exchange newExchange = prepareExchange(exchange);
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy result back
+            ExchangeHelper.copyResults(exchange, newExchange);
+            // log exception if an exception occurred and was not handled
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -276,6 +352,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         latch = new CountDownLatch(getEndpoint().getConcurrentConsumers());
         shutdownPending = false;
         forceShutdown = false;
+        purging = false;
 
         setupTasks();
         getEndpoint().onStarted(this);
@@ -325,8 +402,21 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
         // create thread pool if needed
         if (executor == null) {
-            executor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
-                    getEndpoint().getEndpointUri(), poolSize);
+            ExecutorServiceManager manager = getEndpoint().getCamelContext().getExecutorServiceManager();
+            String profileId = getEndpoint().getThreadPoolProfile();
+            if (profileId != null) {
+                ThreadPoolProfile profile = manager.getThreadPoolProfile(profileId);
+                if (profile == null) {
+                    throw new IllegalArgumentException("ThreadPoolProfile with id: " + profileId + " not found");
+                }
+                // use a copy with a thread per consumer task, and leave the registered profile as-is
+                profile = profile.clone();
+                profile.setPoolSize(poolSize);
+                profile.setMaxPoolSize(poolSize);
+                executor = manager.newThreadPool(this, getEndpoint().getEndpointUri(), profile);
+            } else {
+                executor = manager.newFixedThreadPool(this, getEndpoint().getEndpointUri(), poolSize);
+            }
         }
 
         // submit needed number of tasks
@@ -23,6 +23,9 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.AsyncEndpoint;
 import org.apache.camel.AsyncProcessor;
@@ -84,6 +87,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int batchSize = 1;
+    @UriParam(label = "consumer,advanced")
+    private String threadPoolProfile;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -102,6 +109,13 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
 
     private BlockingQueueFactory<Exchange> queueFactory;
 
+    private final LongAdder producerBlockedCount = new LongAdder();
+    private final LongAdder producerBlockedTime = new LongAdder();
+    private final AtomicLong producerBlockedMaxTime = new AtomicLong();
+    private final LongAdder producerOfferCount = new LongAdder();
+    private final LongAdder producerOfferTime = new LongAdder();
+    private final AtomicLong producerOfferMaxTime = new AtomicLong();
+
     public SedaEndpoint() {
         queueFactory = new LinkedBlockingQueueFactory<>();
     }
@@ -289,6 +303,73 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         return queue.size();
     }
 
+    @ManagedAttribute(description = "Number of times a producer was blocked as the queue was full")
+    public long getProducerBlockedCount() {
+        return producerBlockedCount.sum();
+    }
+
+    @ManagedAttribute(description = "Total time a producer was blocked as the queue was full [milliseconds]")
+    public long getProducerBlockedTotalTime() {
+        return TimeUnit.NANOSECONDS.toMillis(producerBlockedTime.sum());
+    }
+
+    @ManagedAttribute(description = "Max time a producer was blocked as the queue was full [milliseconds]")
+    public long getProducerBlockedMaxTime() {
+        return TimeUnit.NANOSECONDS.toMillis(producerBlockedMaxTime.get());
+    }
+
+    @ManagedOperation(description = "Resets the statistics of producers being blocked as the queue was full")
+    public void resetProducerBlockedStatistics() {
+        producerBlockedCount.reset();
+        producerBlockedTime.reset();
+        producerBlockedMaxTime.set(0);
+    }
+
+    /**
+     * Callback when a producer was blocked (when blockWhenFull is enabled) as the queue was full
+     *
+     * @param nanos the time the producer was blocked
+     */
+    void onProducerBlocked(long nanos) {
+        producerBlockedCount.increment();
+        producerBlockedTime.add(nanos);
+        producerBlockedMaxTime.accumulateAndGet(nanos, Math::max);
+    }
+
+    @ManagedAttribute(description = "Number of messages offered to the queue by producers")
+    public long getProducerOfferCount() {
+        return producerOfferCount.sum();
+    }
+
+    @ManagedAttribute(description = "Mean time a producer took to offer a message to the queue [microseconds]")
+    public long getProducerOfferMeanTime() {
+        long count = producerOfferCount.sum();
+        return count > 0 ? TimeUnit.NANOSECONDS.toMicros(producerOfferTime.sum() / count) : 0;
+    }
+
+    @ManagedAttribute(description = "Max time a producer took to offer a message to the queue [microseconds]")
+    public long getProducerOfferMaxTime() {
+        return TimeUnit.NANOSECONDS.toMicros(producerOfferMaxTime.get());
+    }
+
+    @ManagedOperation(description = "Resets the statistics of producers offering messages to the queue")
+    public void resetProducerOfferStatistics() {
+        producerOfferCount.reset();
+        producerOfferTime.reset();
+        producerOfferMaxTime.set(0);
+    }
+
+    /**
+     * Callback when a producer has offered a message to the queue, including any time blocked as the queue was full
+     *
+     * @param nanos the time it took to offer the message
+     */
+    void onProducerOffer(long nanos) {
+        producerOfferCount.increment();
+        producerOfferTime.add(nanos);
+        producerOfferMaxTime.accumulateAndGet(nanos, Math::max);
+    }
+
     /**
      * Whether a thread that sends messages to a full SEDA queue will block until the queue's capacity is no longer
      * exhausted. By default, an exception will be thrown stating that the queue is full. By enabling this option, the
@@ -440,6 +521,35 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of messages to take from the queue in one poll. When there is more than one message on the
+     * queue then the consumer drains up to this number of messages at once, and processes them one by one without
+     * polling the queue for each message. This reduces the overhead of the queue when there is a high throughput of
+     * messages. The default value is 1 which polls the queue for each message.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public String getThreadPoolProfile() {
+        return threadPoolProfile;
+    }
+
+    /**
+     * The id of a thread pool profile to use for the threads of the consumers, such as a profile with virtual threads
+     * enabled. The pool size of the profile is set to the number of concurrentConsumers. By default, a fixed thread
+     * pool of regular threads is used.
+     */
+    public void setThreadPoolProfile(String threadPoolProfile) {
+        this.threadPoolProfile = threadPoolProfile;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
@@ -218,6 +218,7 @@ public class SedaProducer extends DefaultAsyncProducer {
         }
 
         LOG.trace("Adding Exchange to queue: {}", target);
+        long offerStart = System.nanoTime();
         if (discardWhenFull) {
             try {
                 boolean added = queue.offer(target, 0, TimeUnit.MILLISECONDS);
@@ -230,14 +231,25 @@ public class SedaProducer extends DefaultAsyncProducer {
             }
         } else if (blockWhenFull && offerTimeout == 0) {
             try {
-                queue.put(target);
+                if (!queue.offer(target)) {
+                    // the queue is full so we need to block
+                    long start = System.nanoTime();
+                    queue.put(target);
+                    endpoint.onProducerBlocked(System.nanoTime() - start);
+                }
             } catch (InterruptedException e) {
                 // ignore
                 LOG.debug("Put interrupted, are we stopping? {}", isStopping() || isStopped());
             }
         } else if (blockWhenFull && offerTimeout > 0) {
             try {
-                boolean added = queue.offer(target, offerTimeout, TimeUnit.MILLISECONDS);
+                boolean added = queue.offer(target);
+                if (!added) {
+                    // the queue is full so we need to block
+                    long start = System.nanoTime();
+                    added = queue.offer(target, offerTimeout, TimeUnit.MILLISECONDS);
+                    endpoint.onProducerBlocked(System.nanoTime() - start);
+                }
                 if (!added) {
                     throw new IllegalStateException(
                             "Fails to insert element into queue, "
@@ -250,6 +262,7 @@ public class SedaProducer extends DefaultAsyncProducer {
         } else {
             queue.add(target);
         }
+        endpoint.onProducerOffer(System.nanoTime() - offerStart);
     }
 
 }
@@ -20,7 +20,7 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(46);
+        Set<String> props = new HashSet<>(47);
         props.add("backoffMultiplier");
         props.add("breakBatchOnConsumeFail");
         props.add("onConsume");
@@ -52,6 +52,7 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("schedulerProperties");
         props.add("exchangePattern");
         props.add("batch");
+        props.add("batchSize");
         props.add("routeEmptyResultSet");
         props.add("alwaysPopulateStatement");
         props.add("separator");
@@ -23,6 +23,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
+import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 
@@ -36,6 +37,9 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriPath(description = "Sets the SQL query to perform. You can externalize the query by using file: or classpath: as prefix and specify the location of the file.")
     @Metadata(required = true)
     private String query;
+    @UriParam(label = "producer",
+              description = "The maximum number of rows to add to the JDBC batch before the batch is executed, when using batch mode. By default, all the rows of the message body are executed in one batch, which can use a lot of memory in the JDBC driver for large bodies.")
+    private int batchSize;
 
     public SqlEndpoint() {
     }
@@ -73,6 +77,7 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
                 this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        result.setBatchSize(batchSize);
         return result;
     }
 
@@ -94,4 +99,17 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         this.query = query;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of rows to add to the JDBC batch before the batch is executed, when using batch mode. By
+     * default, all the rows of the message body are executed in one batch, which can use a lot of memory in the JDBC
+     * driver for large bodies.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
 }
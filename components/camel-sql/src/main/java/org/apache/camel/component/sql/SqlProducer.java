@@ -53,6 +53,7 @@ public class SqlProducer extends DefaultProducer {
     private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
     private final boolean useMessageBodyForSql;
     private int parametersCount;
+    private int batchSize;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate,
                        SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
@@ -151,15 +152,12 @@ public class SqlProducer extends DefaultProducer {
                 Object data = null;
                 ResultSet rs = null;
                 try {
-                    populateStatement(ps, exchange, sql, preparedQuery);
+                    // the rows may already have been executed in smaller batches
+                    int total = populateStatement(ps, exchange, sql, preparedQuery);
                     boolean isResultSet = false;
 
                     if (batch) {
-                        int[] updateCounts = ps.executeBatch();
-                        int total = 0;
-                        for (int count : updateCounts) {
-                            total += count;
-                        }
+                        total += executeBatch(ps);
                         exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, total);
                     } else {
                         isResultSet = ps.execute();
@@ -225,6 +223,7 @@ public class SqlProducer extends DefaultProducer {
         try {
             con = jdbcTemplate.getDataSource().getConnection();
             ps = statementCreator.createPreparedStatement(con);
+            applyStatementSettings(ps);
             ResultSetIterator iterator = null;
 
             populateStatement(ps, exchange, sql, preparedQuery);
@@ -248,8 +247,42 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
-    private void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
+    /**
+     * Applies the settings of the template to the statement, as the template does for the statements it creates itself,
+     * so the fetch size (template.fetchSize option) controls how many rows are loaded at a time when streaming.
+     */
+    private void applyStatementSettings(PreparedStatement ps) throws SQLException {
+        int fetchSize = jdbcTemplate.getFetchSize();
+        if (fetchSize != -1) {
+            ps.setFetchSize(fetchSize);
+        }
+        int maxRows = jdbcTemplate.getMaxRows();
+        if (maxRows != -1) {
+            ps.setMaxRows(maxRows);
+        }
+        int queryTimeout = jdbcTemplate.getQueryTimeout();
+        if (queryTimeout != -1) {
+            ps.setQueryTimeout(queryTimeout);
+        }
+    }
+
+    private static int executeBatch(PreparedStatement ps) throws SQLException {
+        int[] updateCounts = ps.executeBatch();
+        int total = 0;
+        for (int count : updateCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Populates the statement, and in batch mode executes the rows every batch size.
+     *
+     * @return the update count of the rows which has been executed
+     */
+    private int populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
             throws SQLException {
+        int total = 0;
         int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
 
         // only populate if really needed
@@ -262,12 +295,18 @@ public class SqlProducer extends DefaultProducer {
                 } else {
                     iterator = exchange.getIn().getBody(Iterator.class);
                 }
+                // the iterator is consumed lazily, so the rows are not all kept in memory when using batch size
+                int rows = 0;
                 while (iterator != null && iterator.hasNext()) {
                     Object value = iterator.next();
                     Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(sql, preparedQuery, expected,
                             exchange, value);
                     sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
                     ps.addBatch();
+                    if (batchSize > 0 && ++rows % batchSize == 0) {
+                        LOG.trace("Executing batch of {} rows", batchSize);
+                        total += executeBatch(ps);
+                    }
                 }
             } else {
                 Object value;
@@ -281,9 +320,14 @@ public class SqlProducer extends DefaultProducer {
                 sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
             }
         }
+        return total;
     }
 
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
 }
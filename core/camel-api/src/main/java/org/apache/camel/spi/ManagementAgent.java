@@ -276,6 +276,59 @@ public interface ManagementAgent extends Service {
      */
     Boolean getEndpointRuntimeStatisticsEnabled();
 
+    /**
+     * Sets whether to record a histogram of the processing times for the routes and processors, which is used for
+     * reporting percentiles (such as the 99th percentile) of the processing time. Each histogram uses a fixed amount of
+     * memory (depending on the precision) per route and processor.
+     * <p/>
+     * The default value is <tt>false</tt>
+     *
+     * @param flag <tt>true</tt> to enable processing time histograms
+     */
+    void setProcessingTimeHistogramEnabled(Boolean flag);
+
+    /**
+     * Gets whether processing time histograms is enabled
+     *
+     * @return <tt>true</tt> if enabled
+     */
+    Boolean getProcessingTimeHistogramEnabled();
+
+    /**
+     * Sets the precision of the processing time histograms as the number of significant decimal digits (1 to 3). A
+     * higher precision uses more memory.
+     * <p/>
+     * The default value is <tt>2</tt>
+     *
+     * @param precision the number of significant digits
+     */
+    void setProcessingTimeHistogramPrecision(Integer precision);
+
+    /**
+     * Gets the precision of the processing time histograms
+     *
+     * @return the number of significant digits
+     */
+    Integer getProcessingTimeHistogramPrecision();
+
+    /**
+     * Sets the rolling window in millis of the processing time histograms, which means the percentiles are calculated
+     * from the processing times within the last window. Use 0 to calculate from all the processing times (until the
+     * statistics is reset).
+     * <p/>
+     * The default value is <tt>60000</tt>
+     *
+     * @param window the window in millis
+     */
+    void setProcessingTimeHistogramWindow(Long window);
+
+    /**
+     * Gets the rolling window in millis of the processing time histograms
+     *
+     * @return the window in millis
+     */
+    Long getProcessingTimeHistogramWindow();
+
     /**
      * Sets the statistics level
      * <p/>
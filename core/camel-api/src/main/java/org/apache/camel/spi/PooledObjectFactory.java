@@ -16,6 +16,9 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Service;
 
@@ -98,6 +101,18 @@ public interface PooledObjectFactory<T> extends Service, CamelContextAware {
      */
     Statistics getStatistics();
 
+    /**
+     * Gets the objects which are currently in use, that is acquired from this factory and not yet released back.
+     * <p/>
+     * This is only tracked by pooled factories when statistics is enabled, and can be used to detect leaks, such as
+     * custom code that never releases an object back to the pool.
+     *
+     * @return the objects in use, or an empty collection if not tracked
+     */
+    default Collection<T> getInUse() {
+        return Collections.emptyList();
+    }
+
     /**
      * Whether the factory is pooled.
      */
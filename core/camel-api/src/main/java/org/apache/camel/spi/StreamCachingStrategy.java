@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +63,21 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of spooled off-heap {@link StreamCache} created.
+         */
+        long getCacheOffHeapCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for spooled off-heap stream caches.
+         */
+        long getCacheOffHeapSize();
+
+        /**
+         * Gets the average number of bytes per cached stream for spooled off-heap stream caches.
+         */
+        long getCacheOffHeapAverageSize();
+
         /**
          * Reset the counters
          */
@@ -181,6 +197,42 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    /**
+     * Sets the maximum size in bytes of a spooled stream cache which is kept in pooled off-heap memory, instead of
+     * being written to a file in the spool directory. Streams larger than this size are spooled to disk.
+     * <p/>
+     * This option is default <tt>0</tt> which means off-heap memory is not in use, and streams are always spooled to
+     * disk.
+     */
+    void setSpoolOffHeapMaxSize(long maxSize);
+
+    long getSpoolOffHeapMaxSize();
+
+    /**
+     * Sets the total size in bytes of the off-heap memory which can be used by spooled stream caches. When all this
+     * memory is in use, then streams are spooled to disk.
+     * <p/>
+     * The default size is 256mb.
+     */
+    void setSpoolOffHeapPoolSize(long poolSize);
+
+    long getSpoolOffHeapPoolSize();
+
+    /**
+     * Acquires a segment of pooled off-heap memory for a spooled stream cache. The segment must be released using
+     * {@link #releaseOffHeapSegment(ByteBuffer)} when the stream cache is no longer in use.
+     *
+     * @return the segment, or <tt>null</tt> if off-heap memory is not in use or all the memory is in use
+     */
+    ByteBuffer acquireOffHeapSegment();
+
+    /**
+     * Releases the segment of off-heap memory back to the pool.
+     *
+     * @param segment the segment acquired by {@link #acquireOffHeapSegment()}
+     */
+    void releaseOffHeapSegment(ByteBuffer segment);
+
     /**
      * Sets whether if just any of the {@link org.apache.camel.spi.StreamCachingStrategy.SpoolRule} rules returns
      * <tt>true</tt> then {@link #shouldSpoolCache(long)} returns <tt>true</tt>. If this option is <tt>false</tt>, then
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.StaticService;
@@ -31,6 +34,32 @@ import org.apache.camel.TypeConverters;
  */
 public interface TypeConverterRegistry extends StaticService, CamelContextAware {
 
+    /**
+     * Statistics gathered about conversions between a pair of types.
+     */
+    interface ConversionStatistic {
+
+        /**
+         * The type converted from
+         */
+        Class<?> getFromType();
+
+        /**
+         * The type converted to
+         */
+        Class<?> getToType();
+
+        /**
+         * Number of conversions attempted between the two types
+         */
+        long getCounter();
+
+        /**
+         * Total time spent converting between the two types (in nanos)
+         */
+        long getTotalTime();
+    }
+
     /**
      * Utilization statistics of the this registry.
      */
@@ -61,6 +90,15 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Statistics per pair of types that has been converted, ordered by the number of conversions (highest first).
+         * <p/>
+         * This can be used to find the hot conversions which may be worth avoiding in the routes.
+         */
+        default List<ConversionStatistic> getConversionStatistics() {
+            return Collections.emptyList();
+        }
+
         /**
          * Reset the counters
          */
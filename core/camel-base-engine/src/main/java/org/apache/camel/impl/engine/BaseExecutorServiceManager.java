@@ -28,6 +28,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -52,6 +53,7 @@ import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadHelper;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +66,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     private final CamelContext camelContext;
     private final List<ExecutorService> executorServices = new CopyOnWriteArrayList<>();
     private final Map<String, ThreadPoolProfile> threadPoolProfiles = new ConcurrentHashMap<>();
+    private final AtomicBoolean virtualThreadsWarned = new AtomicBoolean();
     private ThreadPoolFactory threadPoolFactory;
     private String threadNamePattern;
     private long shutdownAwaitTermination = 10000;
@@ -194,7 +197,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, isVirtualThreads(profile));
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -220,7 +223,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ExecutorService answer = threadPoolFactory.newCachedThreadPool(threadFactory);
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -236,6 +240,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         profile.setMaxPoolSize(poolSize);
         profile.setKeepAliveTime(0L);
         profile.setAllowCoreThreadTimeOut(false);
+        // callers of fixed thread pools depend on the number of threads (such as a single thread for ordering)
+        profile.setVirtualThreads(false);
         return newThreadPool(source, name, profile);
     }
 
@@ -584,7 +590,27 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(String name, boolean isDaemon) {
-        return new CamelThreadFactory(threadNamePattern, name, isDaemon);
+        return createThreadFactory(name, isDaemon, false);
+    }
+
+    protected ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean virtual) {
+        return new CamelThreadFactory(threadNamePattern, name, isDaemon, virtual);
+    }
+
+    private boolean isVirtualThreads(ThreadPoolProfile profile) {
+        if (profile == null || !Boolean.TRUE.equals(profile.getVirtualThreads())) {
+            return false;
+        }
+        if (VirtualThreadHelper.isVirtualThreadsSupported()) {
+            return true;
+        }
+        // only warn once
+        if (virtualThreadsWarned.compareAndSet(false, true)) {
+            LOG.warn("Thread pool profile: {} is configured to use virtual threads, which are not supported by this JVM."
+                     + " Using regular threads instead.",
+                    profile.getId());
+        }
+        return false;
     }
 
 }
@@ -19,14 +19,19 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
@@ -42,6 +47,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
 
+    // size of the off-heap memory segments which are pooled
+    private static final int OFF_HEAP_SEGMENT_SIZE = 1024 * 1024;
+
     private CamelContext camelContext;
     private boolean enabled;
     private File spoolDirectory;
@@ -52,6 +60,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
+    private long spoolOffHeapMaxSize;
+    private long spoolOffHeapPoolSize = 256 * 1024 * 1024L;
+    private final Queue<ByteBuffer> offHeapSegments = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapAllocated = new AtomicLong();
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
@@ -151,6 +163,55 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.removeSpoolDirectoryWhenStopping = removeSpoolDirectoryWhenStopping;
     }
 
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapMaxSize(long spoolOffHeapMaxSize) {
+        this.spoolOffHeapMaxSize = spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public long getSpoolOffHeapPoolSize() {
+        return spoolOffHeapPoolSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapPoolSize(long spoolOffHeapPoolSize) {
+        this.spoolOffHeapPoolSize = spoolOffHeapPoolSize;
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapSegment() {
+        if (spoolOffHeapMaxSize <= 0) {
+            return null;
+        }
+        ByteBuffer answer = offHeapSegments.poll();
+        if (answer == null) {
+            // allocate a new segment if there is room in the pool
+            if (offHeapAllocated.addAndGet(OFF_HEAP_SEGMENT_SIZE) > spoolOffHeapPoolSize) {
+                offHeapAllocated.addAndGet(-OFF_HEAP_SEGMENT_SIZE);
+                LOG.trace("Off-heap memory pool of {} bytes is in use", spoolOffHeapPoolSize);
+                return null;
+            }
+            answer = ByteBuffer.allocateDirect(OFF_HEAP_SEGMENT_SIZE);
+        }
+        return answer;
+    }
+
+    @Override
+    public void releaseOffHeapSegment(ByteBuffer segment) {
+        if (isStoppingOrStopped()) {
+            // let the segment be garbage collected, as the pool is not in use
+            offHeapAllocated.addAndGet(-OFF_HEAP_SEGMENT_SIZE);
+            return;
+        }
+        segment.clear();
+        offHeapSegments.offer(segment);
+    }
+
     @Override
     public boolean isAnySpoolRules() {
         return anySpoolRules;
@@ -207,11 +268,14 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         StreamCache cache = message.getBody(StreamCache.class);
         if (cache != null) {
             if (LOG.isTraceEnabled()) {
-                LOG.trace("Cached stream to {} -> {}", cache.inMemory() ? "memory" : "spool", cache);
+                LOG.trace("Cached stream to {} -> {}",
+                        cache instanceof OffHeapInputStreamCache ? "off-heap" : cache.inMemory() ? "memory" : "spool", cache);
             }
             if (statistics.isStatisticsEnabled()) {
                 try {
-                    if (cache.inMemory()) {
+                    if (cache instanceof OffHeapInputStreamCache) {
+                        statistics.updateOffHeap(cache.length());
+                    } else if (cache.inMemory()) {
                         statistics.updateMemory(cache.length());
                     } else {
                         statistics.updateSpool(cache.length());
@@ -322,6 +386,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (spoolOffHeapMaxSize > 0 && spoolOffHeapPoolSize < OFF_HEAP_SEGMENT_SIZE) {
+            LOG.warn("SpoolOffHeapPoolSize {} is lower than the segment size {}, off-heap memory will not be in use",
+                    spoolOffHeapPoolSize, OFF_HEAP_SEGMENT_SIZE);
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -343,6 +412,13 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        // let the pooled off-heap memory be garbage collected, but keep counting the segments which are still in use
+        // by stream caches, as they are released later
+        ByteBuffer segment;
+        while ((segment = offHeapSegments.poll()) != null) {
+            offHeapAllocated.addAndGet(-OFF_HEAP_SEGMENT_SIZE);
+        }
     }
 
     @Override
@@ -352,6 +428,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+               + ", spoolOffHeapMaxSize=" + spoolOffHeapMaxSize
+               + ", spoolOffHeapPoolSize=" + spoolOffHeapPoolSize
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
@@ -431,6 +509,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long offHeapCounter;
+        private volatile long offHeapSize;
+        private volatile long offHeapAverageSize;
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -444,6 +525,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolAverageSize = spoolSize / spoolCounter;
         }
 
+        synchronized void updateOffHeap(long size) {
+            offHeapCounter++;
+            offHeapSize += size;
+            offHeapAverageSize = offHeapSize / offHeapCounter;
+        }
+
         @Override
         public long getCacheMemoryCounter() {
             return memoryCounter;
@@ -474,6 +561,21 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter;
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize;
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize;
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -482,6 +584,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            offHeapCounter = 0;
+            offHeapSize = 0;
+            offHeapAverageSize = 0;
         }
 
         @Override
@@ -497,8 +602,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s, offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize);
         }
     }
 
@@ -79,6 +79,7 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
             PooledExchange ee = (PooledExchange) exchange;
             ee.reset(System.currentTimeMillis());
         }
+        onAcquired(exchange);
         return exchange;
     }
 
@@ -99,11 +100,13 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
             PooledExchange ee = (PooledExchange) exchange;
             ee.reset(System.currentTimeMillis());
         }
+        onAcquired(exchange);
         return exchange;
     }
 
     @Override
     public boolean release(Exchange exchange) {
+        onReleased(exchange);
         try {
             // done exchange before returning back to pool
             PooledExchange ee = (PooledExchange) exchange;
@@ -76,6 +76,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         }
 
         ExchangeHelper.copyResults(answer, exchange);
+        onAcquired(answer);
         return answer;
     }
 
@@ -109,6 +110,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         }
         // set a correlation id so we can track back the original exchange
         answer.setProperty(ExchangePropertyKey.CORRELATION_ID, exchange.getExchangeId());
+        onAcquired(answer);
         return answer;
     }
 
@@ -129,11 +131,13 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
             PooledExchange ee = (PooledExchange) answer;
             ee.reset(System.currentTimeMillis());
         }
+        onAcquired(answer);
         return answer;
     }
 
     @Override
     public boolean release(Exchange exchange) {
+        onReleased(exchange);
         try {
             // done exchange before returning back to pool
             PooledExchange ee = (PooledExchange) exchange;
@@ -16,13 +16,17 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.Collection;
+
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.PooledObjectFactorySupport;
 import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
@@ -160,6 +164,7 @@ public class PrototypeExchangeFactory extends PooledObjectFactorySupport<Exchang
                     log.warn(
                             "{}{} ({}) usage (leaks detected: {}) [pooled: {}, created: {}, acquired: {} released: {}, discarded: {}]",
                             name, id, uri, leaks, pooled, created, acquired, released, discarded);
+                    logInUse(log, name, getInUse());
                 } else {
                     log.info("{}{} ({}) usage [pooled: {}, created: {}, acquired: {} released: {}, discarded: {}]",
                             name, id, uri, pooled, created, acquired, released, discarded);
@@ -168,4 +173,15 @@ public class PrototypeExchangeFactory extends PooledObjectFactorySupport<Exchang
         }
     }
 
+    static void logInUse(Logger log, String name, Collection<Exchange> exchanges) {
+        // report the route and node where the exchanges not released back to the pool was last seen
+        long now = System.currentTimeMillis();
+        for (Exchange exchange : exchanges) {
+            String nodeId = exchange.adapt(ExtendedExchange.class).getHistoryNodeId();
+            log.warn("{} exchange not released back to the pool: {} [route: {}, node: {}, age: {} millis]",
+                    name, exchange.getExchangeId(), ExchangeHelper.getRouteId(exchange), nodeId,
+                    now - exchange.getCreated());
+        }
+    }
+
 }
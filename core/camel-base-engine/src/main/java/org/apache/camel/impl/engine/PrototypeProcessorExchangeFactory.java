@@ -138,6 +138,7 @@ public class PrototypeProcessorExchangeFactory extends PooledObjectFactorySuppor
                     log.warn(
                             "{} {} ({}) usage (leaks detected: {}) [pooled: {}, created: {}, acquired: {} released: {}, discarded: {}]",
                             name, rid, pid, leaks, pooled, created, acquired, released, discarded);
+                    PrototypeExchangeFactory.logInUse(log, name, getInUse());
                 } else {
                     log.info("{} {} ({}) usage [pooled: {}, created: {}, acquired: {} released: {}, discarded: {}]",
                             name, rid, pid, pooled, created, acquired, released, discarded);
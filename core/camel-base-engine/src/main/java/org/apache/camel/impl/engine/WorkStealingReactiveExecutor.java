@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} where threads that have run out of work can steal queued tasks from busy threads.
+ * <p/>
+ * This works like {@link DefaultReactiveExecutor} with a queue of tasks per thread, but when a thread has drained its
+ * own queue it takes pending tasks from the tail of the queues of other threads that are busy running a task. Threads
+ * which are idle waiting for an asynchronous callback (see {@link #executeFromQueue()}) also steal pending tasks when
+ * their own queue is empty. This helps bursts of async continuations (such as from multicast or splitter) to be spread over the routing threads
+ * instead of always running on the thread that scheduled them.
+ * <p/>
+ * Only tasks scheduled with {@link #schedule(Runnable)} can be stolen. Tasks scheduled with
+ * {@link #scheduleMain(Runnable)}, {@link #scheduleSync(Runnable)} or {@link #scheduleQueue(Runnable)} always run on
+ * the thread that scheduled them, as they may depend on the calling thread (such as transactions).
+ * <p/>
+ * To use this executor then bind an instance to the registry (when using camel-main), or set it on
+ * {@link org.apache.camel.ExtendedCamelContext#setReactiveExecutor(ReactiveExecutor)} before starting Camel.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(new Supplier<Worker>() {
+        @Override
+        public Worker get() {
+            int number = createdWorkers.incrementAndGet();
+            return new Worker(number, WorkStealingReactiveExecutor.this);
+        }
+    });
+
+    // the workers that are currently running tasks, which are the ones that can be stolen from
+    private final Set<Worker> busyWorkers = ConcurrentHashMap.newKeySet();
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(new StealableTask(runnable), false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        Worker worker = workers.get();
+        worker.queue.add(runnable);
+        if (worker.stats) {
+            worker.queued.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from busy workers")
+    public long getStolenTasks() {
+        return stolenTasks.longValue();
+    }
+
+    @ManagedAttribute(description = "Largest number of tasks queued by a single worker")
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, stolenTasks: {}, maxQueueDepth: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStolenTasks(), getMaxQueueDepth());
+        }
+    }
+
+    /**
+     * Steals a pending task from the tail of the queue of another busy worker.
+     */
+    private Runnable steal(Worker thief) {
+        for (Worker victim : busyWorkers) {
+            if (victim == thief) {
+                continue;
+            }
+            Deque<Runnable> queue = victim.queue;
+            Runnable last = queue.peekLast();
+            // the owner may have taken the task in the meantime, so only run it if we removed it
+            if (last instanceof StealableTask && queue.removeLastOccurrence(last)) {
+                if (victim.stats) {
+                    victim.queued.decrementAndGet();
+                }
+                if (statisticsEnabled) {
+                    stolenTasks.increment();
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} stole task from worker #{}: {}", thief.number, victim.number, last);
+                }
+                return last;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Marks a task as allowed to be run by another worker.
+     */
+    private static final class StealableTask implements Runnable {
+
+        private final Runnable task;
+
+        StealableTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final boolean stats;
+        private volatile Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+        private Deque<Deque<Runnable>> back;
+        // number of tasks in the queues (only with statistics), as the size of a concurrent deque is not constant time
+        private final AtomicInteger queued = new AtomicInteger();
+        private volatile boolean running;
+        private int depth;
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor.isStatisticsEnabled();
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                if (!queue.isEmpty()) {
+                    if (back == null) {
+                        back = new ArrayDeque<>();
+                    }
+                    back.push(queue);
+                    queue = new ConcurrentLinkedDeque<>();
+                }
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            if (stats) {
+                executor.pendingTasks.increment();
+                int size = queued.incrementAndGet();
+                executor.maxQueueDepth.accumulateAndGet(size, Math::max);
+            }
+            if (!running || sync) {
+                // only the outermost loop steals, a nested sync loop must return to its caller asap
+                boolean outer = depth++ == 0;
+                running = true;
+                if (outer) {
+                    executor.busyWorkers.add(this);
+                }
+                if (stats) {
+                    executor.runningWorkers.increment();
+                }
+                try {
+                    for (;;) {
+                        Runnable polled = queue.pollFirst();
+                        if (polled == null) {
+                            if (back != null && !back.isEmpty()) {
+                                queue = back.pollFirst();
+                                continue;
+                            } else if (outer) {
+                                polled = executor.steal(this);
+                                if (polled == null) {
+                                    break;
+                                }
+                            } else {
+                                break;
+                            }
+                        } else if (stats) {
+                            queued.decrementAndGet();
+                        }
+                        try {
+                            if (stats) {
+                                executor.pendingTasks.decrement();
+                            }
+                            if (LOG.isTraceEnabled()) {
+                                LOG.trace("Worker #{} running: {}", number, polled);
+                            }
+                            polled.run();
+                        } catch (Throwable t) {
+                            LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                                    t.getMessage(), t);
+                        }
+                    }
+                } finally {
+                    running = false;
+                    if (--depth == 0) {
+                        executor.busyWorkers.remove(this);
+                    }
+                    if (stats) {
+                        executor.runningWorkers.decrement();
+                    }
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        boolean executeFromQueue() {
+            Runnable polled = queue != null ? queue.pollFirst() : null;
+            if (polled != null) {
+                if (stats) {
+                    queued.decrementAndGet();
+                }
+            } else {
+                // the thread is idle waiting, so help the busy workers
+                polled = executor.steal(this);
+                if (polled == null) {
+                    return false;
+                }
+            }
+            try {
+                if (stats) {
+                    executor.pendingTasks.decrement();
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Throwable t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -66,6 +67,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
     protected final TypeConverter enumTypeConverter = new EnumTypeConverter();
+    // the converters resolved and statistics per (to, from) pair of types that has been converted
+    private final TypeConversionCache conversions = new TypeConversionCache();
 
     protected final Statistics statistics = new UtilizationStatistics();
     protected final LongAdder noopCounter = new LongAdder();
@@ -444,11 +447,32 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         // okay we need to attempt to convert
+        // the conversion remembers the type converter resolved for these types (null if too many types are converted)
+        TypeConversionCache.Conversion conversion = conversions.getOrCreate(type, value.getClass());
         if (statisticsEnabled) {
             attemptCounter.increment();
+            if (conversion != null) {
+                long start = System.nanoTime();
+                try {
+                    return doConvertTo(conversion, type, exchange, value, tryConvert, trace);
+                } finally {
+                    conversion.record(System.nanoTime() - start);
+                }
+            }
         }
+        return doConvertTo(conversion, type, exchange, value, tryConvert, trace);
+    }
 
-        // attempt bulk first which is the fastest
+    private Object doConvertTo(
+            final TypeConversionCache.Conversion conversion, final Class<?> type, final Exchange exchange,
+            final Object value, final boolean tryConvert, final boolean trace)
+            throws Exception {
+
+        // use the converter resolved when these types was converted before (unless the registry has changed since)
+        final int generation = conversions.getGeneration();
+        final TypeConversionCache.Resolved resolved = conversion != null ? conversion.getResolved(generation) : null;
+
+        // attempt bulk first which is the fastest (in the order they are registered)
         for (BulkTypeConverters bulk : bulkTypeConverters) {
             if (trace) {
                 LOG.trace("Using bulk converter: {} to convert [{}=>{}]", bulk.getClass().getSimpleName(), value.getClass(),
@@ -457,14 +481,21 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             Object rc;
 
             rc = bulk.convertTo(value.getClass(), type, exchange, value);
-
             if (rc != null) {
                 return rc;
             }
         }
 
         // try to find a suitable type converter
-        TypeConverter converter = getOrFindTypeConverter(type, value.getClass());
+        TypeConverter converter;
+        if (resolved != null) {
+            converter = resolved.converter;
+        } else {
+            converter = getOrFindTypeConverter(type, value.getClass());
+            if (conversion != null) {
+                conversion.setConverter(generation, converter);
+            }
+        }
         if (converter != null) {
             if (trace) {
                 LOG.trace("Using converter: {} to convert [{}=>{}]", converter, value.getClass(), type);
@@ -551,6 +582,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
             typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            if (conversion != null) {
+                conversion.setConverter(generation, MISS_CONVERTER);
+            }
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
@@ -572,6 +606,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            conversions.invalidate();
         }
     }
 
@@ -603,13 +638,18 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                conversions.invalidate();
             }
         }
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean removed = typeMappings.remove(toType, fromType);
+        if (removed) {
+            conversions.invalidate();
+        }
+        return removed;
     }
 
     @Override
@@ -759,9 +799,18 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             });
             info += String.format(" mappings[total=%s, misses=%s]", size(), misses);
             LOG.info(info);
+            // and the hottest conversions
+            List<ConversionStatistic> hot = statistics.getConversionStatistics();
+            for (int i = 0; i < hot.size() && i < 10; i++) {
+                ConversionStatistic stat = hot.get(i);
+                LOG.info("TypeConverterRegistry conversion[from={}, to={}, count={}, time={}ms]",
+                        stat.getFromType().getName(), stat.getToType().getName(), stat.getCounter(),
+                        TimeUnit.NANOSECONDS.toMillis(stat.getTotalTime()));
+            }
         }
 
         typeMappings.clear();
+        conversions.clear();
         statistics.reset();
     }
 
@@ -797,6 +846,11 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public List<ConversionStatistic> getConversionStatistics() {
+            return conversions.getStatistics();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -804,6 +858,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            conversions.resetStatistics();
         }
 
         @Override
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+
+/**
+ * Cache of the type conversions performed by {@link CoreTypeConverterRegistry} keyed by the (to, from) pair of types.
+ * <p/>
+ * Each type is given a stable integer id, and each pair of types a stable id made from the ids of its types, which is
+ * used to find the {@link Conversion} for the pair in a flat open addressed array. A conversion remembers the type
+ * converter that was resolved for its pair (or that there is none), so repeated conversions between the same types do
+ * not have to lookup the type converter again. The resolved converters are tagged with a generation which is bumped
+ * whenever type converters are added or removed, which invalidates them all at once, while the conversions and their
+ * statistics are kept.
+ */
+final class TypeConversionCache {
+
+    // the number of pairs of types is bounded, as the types converted is normally a small fixed set
+    static final int MAX_CONVERSIONS = 4096;
+
+    private final AtomicInteger typeIds = new AtomicInteger();
+    private final ClassValue<Integer> typeId = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return typeIds.getAndIncrement();
+        }
+    };
+    private final AtomicInteger generation = new AtomicInteger();
+    // the table is at most half full, so looking up a pair always ends at an empty slot
+    private volatile Conversion[] table = new Conversion[32];
+    private int size;
+
+    /**
+     * Gets the conversion for the given pair of types.
+     *
+     * @return the conversion, or <tt>null</tt> if this is the first conversion between the types
+     */
+    Conversion get(Class<?> toType, Class<?> fromType) {
+        long id = pairId(toType, fromType);
+        Conversion[] tab = table;
+        int mask = tab.length - 1;
+        int i = index(id, mask);
+        while (true) {
+            Conversion answer = tab[i];
+            if (answer == null || answer.id == id) {
+                return answer;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * Gets the conversion for the given pair of types, creating it if this is the first conversion between the types.
+     *
+     * @return the conversion, or <tt>null</tt> if the maximum number of conversions has been reached
+     */
+    Conversion getOrCreate(Class<?> toType, Class<?> fromType) {
+        Conversion answer = get(toType, fromType);
+        if (answer == null) {
+            answer = create(toType, fromType);
+        }
+        return answer;
+    }
+
+    private synchronized Conversion create(Class<?> toType, Class<?> fromType) {
+        Conversion answer = get(toType, fromType);
+        if (answer == null && size < MAX_CONVERSIONS) {
+            Conversion[] tab = table;
+            if ((size + 1) * 2 > tab.length) {
+                tab = resize(tab);
+            }
+            answer = new Conversion(pairId(toType, fromType), toType, fromType);
+            put(tab, answer);
+            size++;
+            table = tab;
+        }
+        return answer;
+    }
+
+    private static Conversion[] resize(Conversion[] tab) {
+        Conversion[] answer = new Conversion[tab.length * 2];
+        for (Conversion conversion : tab) {
+            if (conversion != null) {
+                put(answer, conversion);
+            }
+        }
+        return answer;
+    }
+
+    private static void put(Conversion[] tab, Conversion conversion) {
+        int mask = tab.length - 1;
+        int i = index(conversion.id, mask);
+        while (tab[i] != null) {
+            i = (i + 1) & mask;
+        }
+        tab[i] = conversion;
+    }
+
+    private long pairId(Class<?> toType, Class<?> fromType) {
+        return ((long) typeId.get(toType) << 32) | typeId.get(fromType);
+    }
+
+    private static int index(long id, int mask) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * The current generation, which the resolved converters must match to be used.
+     */
+    int getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Invalidates all the resolved converters, such as when a type converter has been added or removed.
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Number of pair of types that has been converted
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    List<TypeConverterRegistry.ConversionStatistic> getStatistics() {
+        List<TypeConverterRegistry.ConversionStatistic> answer = new ArrayList<>();
+        for (Conversion conversion : table) {
+            if (conversion != null && conversion.getCounter() > 0) {
+                answer.add(conversion);
+            }
+        }
+        answer.sort(Comparator.comparingLong(TypeConverterRegistry.ConversionStatistic::getCounter).reversed());
+        return answer;
+    }
+
+    void resetStatistics() {
+        for (Conversion conversion : table) {
+            if (conversion != null) {
+                conversion.reset();
+            }
+        }
+    }
+
+    synchronized void clear() {
+        table = new Conversion[32];
+        size = 0;
+        invalidate();
+    }
+
+    /**
+     * The type converter resolved for a pair of types in a given generation.
+     */
+    static final class Resolved {
+        final int generation;
+        // the type converter found by looking up the types (null if there is none)
+        final TypeConverter converter;
+
+        Resolved(int generation, TypeConverter converter) {
+            this.generation = generation;
+            this.converter = converter;
+        }
+    }
+
+    /**
+     * The conversions between a pair of types.
+     */
+    static final class Conversion implements TypeConverterRegistry.ConversionStatistic {
+
+        private final long id;
+        private final Class<?> toType;
+        private final Class<?> fromType;
+        private final LongAdder counter = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private volatile Resolved resolved;
+
+        Conversion(long id, Class<?> toType, Class<?> fromType) {
+            this.id = id;
+            this.toType = toType;
+            this.fromType = fromType;
+        }
+
+        /**
+         * Gets the type converter resolved in the given generation, or <tt>null</tt> if none has been resolved yet, or
+         * it is from an older generation.
+         */
+        Resolved getResolved(int generation) {
+            Resolved answer = resolved;
+            return answer != null && answer.generation == generation ? answer : null;
+        }
+
+        void setConverter(int generation, TypeConverter converter) {
+            resolved = new Resolved(generation, converter);
+        }
+
+        void record(long nanos) {
+            counter.increment();
+            totalTime.add(nanos);
+        }
+
+        void reset() {
+            counter.reset();
+            totalTime.reset();
+        }
+
+        @Override
+        public Class<?> getFromType() {
+            return fromType;
+        }
+
+        @Override
+        public Class<?> getToType() {
+            return toType;
+        }
+
+        @Override
+        public long getCounter() {
+            return counter.longValue();
+        }
+
+        @Override
+        public long getTotalTime() {
+            return totalTime.longValue();
+        }
+
+        @Override
+        public String toString() {
+            return "Conversion[" + fromType.getName() + " -> " + toType.getName() + "]";
+        }
+    }
+
+}
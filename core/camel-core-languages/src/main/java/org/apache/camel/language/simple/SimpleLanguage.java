@@ -17,11 +17,14 @@
 package org.apache.camel.language.simple;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
 import org.apache.camel.StaticService;
+import org.apache.camel.language.csimple.CSimpleExpression;
 import org.apache.camel.spi.annotations.Language;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.LRUCache;
@@ -54,6 +57,10 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private Map<String, Expression> cacheExpression;
     private Map<String, Predicate> cachePredicate;
 
+    // tiered compilation of hot expressions using the csimple language
+    private int compileThreshold;
+    private ExecutorService compileExecutor;
+
     /**
      * Default constructor.
      */
@@ -84,6 +91,12 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     @Override
     public void stop() {
+        synchronized (this) {
+            if (compileExecutor != null) {
+                getCamelContext().getExecutorServiceManager().shutdownNow(compileExecutor);
+                compileExecutor = null;
+            }
+        }
         if (cachePredicate instanceof LRUCache) {
             if (LOG.isDebugEnabled()) {
                 LRUCache cache = (LRUCache) cachePredicate;
@@ -140,6 +153,9 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             SimplePredicateParser parser
                     = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression);
             answer = parser.parsePredicate();
+            if (compileThreshold > 0 && answer != null && hasSimpleFunction(expression)) {
+                answer = new TieredSimpleExpression(this, expression, answer, compileThreshold);
+            }
 
             if (cachePredicate != null && answer != null) {
                 cachePredicate.put(key, answer);
@@ -206,6 +222,9 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             SimpleExpressionParser parser
                     = new SimpleExpressionParser(getCamelContext(), expression, allowEscape, cacheExpression);
             answer = parser.parseExpression();
+            if (compileThreshold > 0 && answer != null && hasSimpleFunction(expression)) {
+                answer = new TieredSimpleExpression(this, expression, answer, compileThreshold);
+            }
 
             if (cacheExpression != null && answer != null) {
                 cacheExpression.put(key, answer);
@@ -215,6 +234,64 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         return answer;
     }
 
+    public int getCompileThreshold() {
+        return compileThreshold;
+    }
+
+    /**
+     * Sets the number of times an expression or predicate is evaluated, before it is compiled using the csimple
+     * language, which requires camel-csimple-joor on the classpath. The compilation is done in the background, and
+     * the expression is interpreted until it has been compiled. If the expression cannot be compiled, then it
+     * continues to be interpreted.
+     * <p/>
+     * This option must be set before the expressions and predicates are created. The default is 0 which means
+     * compilation is disabled.
+     */
+    public void setCompileThreshold(int compileThreshold) {
+        this.compileThreshold = compileThreshold;
+    }
+
+    /**
+     * Compiles the hot expression in the background.
+     */
+    void compile(TieredSimpleExpression expression) {
+        ExecutorService executor = getOrCreateCompileExecutor();
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.submit(() -> doCompile(expression));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Cannot compile simple expression as the language is stopping: {}", expression.getText());
+        }
+    }
+
+    private synchronized ExecutorService getOrCreateCompileExecutor() {
+        // the executor is created on first use, so the threshold can be set after the language has been started
+        if (compileExecutor == null && getCamelContext() != null) {
+            compileExecutor = getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "SimpleLanguageCompiler");
+            LOG.debug("Simple language compiles expressions evaluated more than {} times", compileThreshold);
+        }
+        return compileExecutor;
+    }
+
+    private void doCompile(TieredSimpleExpression expression) {
+        String text = expression.getText();
+        try {
+            org.apache.camel.spi.Language csimple = getCamelContext().resolveLanguage("csimple");
+            Object compiled = expression.isPredicate() ? csimple.createPredicate(text) : csimple.createExpression(text);
+            if (compiled instanceof CSimpleExpression) {
+                LOG.debug("Compiled simple {}: {}", expression.isPredicate() ? "predicate" : "expression", text);
+                expression.onCompiled((CSimpleExpression) compiled);
+            }
+        } catch (Exception e) {
+            // keep using the interpreter
+            LOG.debug("Cannot compile simple expression: {} due to: {}. The expression will be interpreted.", text,
+                    e.getMessage());
+        }
+    }
+
     /**
      * Creates a new {@link Expression}.
      * <p/>
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.csimple.CSimpleExpression;
+
+/**
+ * A simple {@link Expression} or {@link Predicate} which is interpreted until it has been evaluated a number of times,
+ * and then compiled in the background using the csimple language.
+ * <p/>
+ * Once compiled then the compiled code is used instead of the interpreter. If compilation fails then the expression
+ * continues to be interpreted.
+ *
+ * @see SimpleLanguage#setCompileThreshold(int)
+ */
+final class TieredSimpleExpression implements Expression, Predicate {
+
+    private final SimpleLanguage language;
+    private final String text;
+    private final Expression expression;
+    private final Predicate predicate;
+    private final int threshold;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    // not thread-safe on purpose as the counter only needs to be approximate
+    private int counter;
+    private volatile CSimpleExpression compiled;
+
+    TieredSimpleExpression(SimpleLanguage language, String text, Expression expression, int threshold) {
+        this.language = language;
+        this.text = text;
+        this.expression = expression;
+        this.predicate = null;
+        this.threshold = threshold;
+    }
+
+    TieredSimpleExpression(SimpleLanguage language, String text, Predicate predicate, int threshold) {
+        this.language = language;
+        this.text = text;
+        this.expression = null;
+        this.predicate = predicate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        CSimpleExpression target = compiled;
+        if (target != null) {
+            return target.evaluate(exchange, type);
+        }
+        countEvaluation();
+        return expression.evaluate(exchange, type);
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        CSimpleExpression target = compiled;
+        if (target != null) {
+            return target.matches(exchange);
+        }
+        countEvaluation();
+        return predicate.matches(exchange);
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        if (expression != null) {
+            expression.init(context);
+        } else {
+            predicate.init(context);
+        }
+    }
+
+    String getText() {
+        return text;
+    }
+
+    boolean isPredicate() {
+        return predicate != null;
+    }
+
+    /**
+     * Whether the expression has been compiled.
+     */
+    boolean isCompiled() {
+        return compiled != null;
+    }
+
+    void onCompiled(CSimpleExpression compiled) {
+        this.compiled = compiled;
+    }
+
+    private void countEvaluation() {
+        if (++counter >= threshold && scheduled.compareAndSet(false, true)) {
+            language.compile(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return expression != null ? expression.toString() : predicate.toString();
+    }
+}
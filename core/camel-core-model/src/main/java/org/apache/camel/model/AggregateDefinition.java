@@ -106,6 +106,12 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(defaultValue = "1000", javaType = "java.time.Duration")
     private String completionTimeoutCheckerInterval = "1000";
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String completionTimeoutCheckerTimingWheel;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "1", javaType = "java.lang.Integer")
+    private String shards;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String completionFromBatchConsumer;
     @XmlAttribute
@@ -388,6 +394,22 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public String getCompletionTimeoutCheckerTimingWheel() {
+        return completionTimeoutCheckerTimingWheel;
+    }
+
+    public void setCompletionTimeoutCheckerTimingWheel(String completionTimeoutCheckerTimingWheel) {
+        this.completionTimeoutCheckerTimingWheel = completionTimeoutCheckerTimingWheel;
+    }
+
+    public String getShards() {
+        return shards;
+    }
+
+    public void setShards(String shards) {
+        this.shards = shards;
+    }
+
     public ExpressionSubElementDefinition getCompletionPredicate() {
         return completionPredicate;
     }
@@ -823,6 +845,69 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Whether the background task that checks for timeouts keeps the correlation groups in a hashed timing wheel
+     * (with a bucket per completionTimeoutCheckerInterval), instead of checking all the correlation groups every time.
+     * This is recommended when there are many correlation groups waiting for their completion timeout.
+     *
+     * @return the builder
+     */
+    public AggregateDefinition completionTimeoutCheckerTimingWheel() {
+        return completionTimeoutCheckerTimingWheel(true);
+    }
+
+    /**
+     * Whether the background task that checks for timeouts keeps the correlation groups in a hashed timing wheel
+     * (with a bucket per completionTimeoutCheckerInterval), instead of checking all the correlation groups every time.
+     * This is recommended when there are many correlation groups waiting for their completion timeout.
+     *
+     * @return the builder
+     */
+    public AggregateDefinition completionTimeoutCheckerTimingWheel(boolean completionTimeoutCheckerTimingWheel) {
+        return completionTimeoutCheckerTimingWheel(Boolean.toString(completionTimeoutCheckerTimingWheel));
+    }
+
+    /**
+     * Whether the background task that checks for timeouts keeps the correlation groups in a hashed timing wheel
+     * (with a bucket per completionTimeoutCheckerInterval), instead of checking all the correlation groups every time.
+     * This is recommended when there are many correlation groups waiting for their completion timeout.
+     *
+     * @return the builder
+     */
+    public AggregateDefinition completionTimeoutCheckerTimingWheel(String completionTimeoutCheckerTimingWheel) {
+        setCompletionTimeoutCheckerTimingWheel(completionTimeoutCheckerTimingWheel);
+        return this;
+    }
+
+    /**
+     * Number of shards the correlation groups are partitioned into, by the hash of the correlation key.
+     * <p/>
+     * Each shard has its own lock and completion timeout checker, so correlation groups in different shards can be
+     * aggregated concurrently. This can improve throughput when there are many concurrent correlation groups.
+     * Correlation groups in the same shard are still aggregated one at a time. By default there is one shard.
+     *
+     * @param  shards the number of shards, must be a positive value
+     * @return        the builder
+     */
+    public AggregateDefinition shards(int shards) {
+        return shards(Integer.toString(shards));
+    }
+
+    /**
+     * Number of shards the correlation groups are partitioned into, by the hash of the correlation key.
+     * <p/>
+     * Each shard has its own lock and completion timeout checker, so correlation groups in different shards can be
+     * aggregated concurrently. This can improve throughput when there are many concurrent correlation groups.
+     * Correlation groups in the same shard are still aggregated one at a time. By default there is one shard.
+     *
+     * @param  shards the number of shards, must be a positive value
+     * @return        the builder
+     */
+    public AggregateDefinition shards(String shards) {
+        setShards(shards);
+        return this;
+    }
+
     /**
      * Sets the AggregationStrategy to use with a fluent builder.
      */
@@ -61,6 +61,12 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String streamingOrdered;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String parallelWindowSize;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -383,6 +389,64 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * When in streaming mode and parallel processing is enabled, then replies are aggregated in the same order as the
+     * messages was split, instead of the order they come back.
+     *
+     * @return the builder
+     */
+    public SplitDefinition streamingOrdered() {
+        return streamingOrdered(true);
+    }
+
+    /**
+     * When in streaming mode and parallel processing is enabled, then replies are aggregated in the same order as the
+     * messages was split, instead of the order they come back.
+     *
+     * @return the builder
+     */
+    public SplitDefinition streamingOrdered(boolean streamingOrdered) {
+        return streamingOrdered(Boolean.toString(streamingOrdered));
+    }
+
+    /**
+     * When in streaming mode and parallel processing is enabled, then replies are aggregated in the same order as the
+     * messages was split, instead of the order they come back.
+     *
+     * @return the builder
+     */
+    public SplitDefinition streamingOrdered(String streamingOrdered) {
+        setStreamingOrdered(streamingOrdered);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of split messages which are sent but not yet aggregated, when parallel processing is
+     * enabled. When this limit is reached then the splitter waits until a reply has been aggregated, before sending the
+     * next message. Together with streaming mode this keeps the memory usage bounded regardless of the number of split
+     * messages. By default there is no limit.
+     *
+     * @param  parallelWindowSize the maximum number of messages in-flight
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(int parallelWindowSize) {
+        return parallelWindowSize(Integer.toString(parallelWindowSize));
+    }
+
+    /**
+     * Sets the maximum number of split messages which are sent but not yet aggregated, when parallel processing is
+     * enabled. When this limit is reached then the splitter waits until a reply has been aggregated, before sending the
+     * next message. Together with streaming mode this keeps the memory usage bounded regardless of the number of split
+     * messages. By default there is no limit.
+     *
+     * @param  parallelWindowSize the maximum number of messages in-flight
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(String parallelWindowSize) {
+        setParallelWindowSize(parallelWindowSize);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -590,6 +654,22 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getStreamingOrdered() {
+        return streamingOrdered;
+    }
+
+    public void setStreamingOrdered(String streamingOrdered) {
+        this.streamingOrdered = streamingOrdered;
+    }
+
+    public String getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(String parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     public String getParallelAggregate() {
         return parallelAggregate;
     }
@@ -66,6 +66,9 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
     @Metadata(javaType = "java.lang.Boolean")
     private String useList;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String lazyLoad;
+    @XmlAttribute
     private String moduleClassNames;
     @XmlAttribute
     private String moduleRefs;
@@ -270,6 +273,19 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
         this.useList = useList;
     }
 
+    public String getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads the values on the fly, instead of reading the
+     * whole JSON at once. If the JSON is an array then the iterator returns its elements, which allows to split large
+     * JSON arrays in streaming mode. The collection type and the use list options are then not in use.
+     */
+    public void setLazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public String getModuleClassNames() {
         return moduleClassNames;
     }
@@ -528,6 +544,15 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
         return this;
     }
 
+    public JsonDataFormat lazyLoad(boolean lazyLoad) {
+        return lazyLoad(Boolean.toString(lazyLoad));
+    }
+
+    public JsonDataFormat lazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
     public JsonDataFormat moduleClassNames(String moduleClassNames) {
         this.moduleClassNames = moduleClassNames;
         return this;
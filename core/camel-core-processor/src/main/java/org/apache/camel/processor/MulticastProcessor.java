@@ -170,6 +170,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final long timeout;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int parallelWindowSize;
+    private boolean streamingOrdered;
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -383,6 +385,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        // whether sending is paused as the parallel window is full
+        final AtomicBoolean windowFull = new AtomicBoolean();
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -411,10 +415,11 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            boolean ordered = !isStreaming() || isStreamingOrdered();
             if (capacity > 0) {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock);
             }
         }
 
@@ -449,6 +454,33 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     lock.unlock();
                 }
             }
+            // aggregating frees up room in the parallel window
+            if (windowFull.get() && !isWindowFull() && windowFull.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
+        /**
+         * Whether the number of exchanges which are sent but not yet aggregated has reached the parallel window size.
+         */
+        protected boolean isWindowFull() {
+            return parallelWindowSize > 0 && nbExchangeSent.get() - nbAggregated.get() >= parallelWindowSize;
+        }
+
+        /**
+         * Schedules sending the next exchange in parallel mode, unless the parallel window is full, in which case
+         * sending is resumed when an exchange has been aggregated.
+         */
+        protected void scheduleNext() {
+            if (!isWindowFull()) {
+                schedule(this);
+                return;
+            }
+            windowFull.set(true);
+            // an exchange may have been aggregated in the meantime
+            if (!isWindowFull() && windowFull.compareAndSet(true, false)) {
+                schedule(this);
+            }
         }
 
         protected void timeout() {
@@ -577,7 +609,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    scheduleNext();
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -1207,6 +1239,37 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return streaming;
     }
 
+    /**
+     * The maximum number of exchanges in parallel mode which are sent but not yet aggregated, or 0 for no limit.
+     */
+    public int getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    /**
+     * Sets the maximum number of exchanges in parallel mode which are sent but not yet aggregated. When the window is
+     * full, then no more exchanges are sent until one of the replies has been aggregated. Together with streaming mode
+     * this keeps memory usage bounded regardless of the number of messages.
+     */
+    public void setParallelWindowSize(int parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
+    /**
+     * Whether replies are aggregated in the same order as the messages was sent in streaming mode.
+     */
+    public boolean isStreamingOrdered() {
+        return streamingOrdered;
+    }
+
+    /**
+     * Sets whether replies are aggregated in the same order as the messages was sent in streaming mode. By default
+     * replies are aggregated in the order they come back in streaming mode.
+     */
+    public void setStreamingOrdered(boolean streamingOrdered) {
+        this.streamingOrdered = streamingOrdered;
+    }
+
     /**
      * Should the multicast processor stop processing further exchanges in case of an exception occurred?
      */
@@ -16,15 +16,13 @@
  */
 package org.apache.camel.processor;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
@@ -50,11 +48,16 @@ import org.slf4j.LoggerFactory;
  * This throttle implementation is thread-safe and is therefore safe to be used by multiple concurrent threads in a
  * single route.
  *
- * The throttling mechanism is a DelayQueue with maxRequestsPerPeriod permits on it. Each permit is set to be delayed by
- * timePeriodMillis (except when the throttler is initialized or the throttle rate increased, then there is no delay for
- * those permits). Callers trying to acquire a permit from the DelayQueue will block if necessary. The end result is a
- * rolling window of time. Where from the callers point of view in the last timePeriodMillis no more than
- * maxRequestsPerPeriod have been allowed to be acquired.
+ * The throttling mechanism keeps maxRequestsPerPeriod permits (per correlation key) in a ring of timestamps, which
+ * tells when each permit can be used again. When a permit is used, then it cannot be used again until timePeriodMillis
+ * later (except when the throttler is initialized or the throttle rate increased, then there is no delay for those
+ * permits). The end result is a rolling window of time. Where from the callers point of view in the last
+ * timePeriodMillis no more than maxRequestsPerPeriod have been allowed to be acquired.
+ *
+ * When no permit is available, then the next permit is reserved for the exchange, which is then delayed until the
+ * permit can be used, either by scheduling the exchange on the async executor (asyncDelayed) or by blocking the caller
+ * thread. Acquiring a permit does not allocate any objects, and the state of correlation keys which have been idle for
+ * 10 times the time period is evicted by a background task.
  */
 public class Throttler extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
 
@@ -62,14 +65,9 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
     private static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
 
-    private static final String PROPERTY_EXCHANGE_QUEUED_TIMESTAMP = "CamelThrottlerExchangeQueuedTimestamp";
-    private static final String PROPERTY_EXCHANGE_STATE = "CamelThrottlerExchangeState";
-
-    private enum State {
-        SYNC,
-        ASYNC,
-        ASYNC_REJECTED
-    }
+    // special return values when acquiring a permit
+    private static final long NO_PERMITS = -1;
+    private static final long EVICTED = -2;
 
     private final CamelContext camelContext;
     private final ScheduledExecutorService asyncExecutor;
@@ -85,6 +83,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private boolean callerRunsWhenRejected = true;
     private Expression correlationExpression;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> cleanFuture;
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
                      final long timePeriodMillis,
@@ -108,15 +107,10 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
-        long queuedStart = 0;
-        if (LOG.isTraceEnabled()) {
-            queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, 0L, Long.class);
-            exchange.removeProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP);
-        }
-        State state = exchange.getProperty(PROPERTY_EXCHANGE_STATE, State.SYNC, State.class);
-        exchange.removeProperty(PROPERTY_EXCHANGE_STATE);
-        boolean doneSync = state == State.SYNC || state == State.ASYNC_REJECTED;
+        return doProcess(exchange, callback, true);
+    }
 
+    private boolean doProcess(final Exchange exchange, final AsyncCallback callback, final boolean doneSync) {
         try {
             if (!isRunAllowed()) {
                 throw new RejectedExecutionException("Run is not allowed");
@@ -126,67 +120,56 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             if (correlationExpression != null) {
                 key = correlationExpression.evaluate(exchange, String.class);
             }
-            ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
-            throttlingState.calculateAndSetMaxRequestsPerPeriod(exchange);
 
-            ThrottlePermit permit = throttlingState.poll();
+            while (true) {
+                ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
+                throttlingState.calculateAndSetMaxRequestsPerPeriod(exchange);
+
+                long delay = throttlingState.acquire(!isRejectExecution());
+                if (delay == EVICTED) {
+                    // the state was evicted concurrently so try again with a new state
+                    states.remove(key, throttlingState);
+                    continue;
+                }
+                if (delay == 0) {
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                    }
+                    break;
+                }
 
-            if (permit == null) {
                 if (isRejectExecution()) {
                     throw new ThrottlerRejectedExecutionException(
                             "Exceeded the max throttle rate of "
                                                                   + throttlingState.getThrottleRate() + " within "
                                                                   + timePeriodMillis + "ms");
-                } else {
-                    // delegate to async pool
-                    if (isAsyncDelayed() && !exchange.isTransacted() && state == State.SYNC) {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug(
-                                    "Throttle rate exceeded but AsyncDelayed enabled, so queueing for async processing, exchangeId: {}",
-                                    exchange.getExchangeId());
-                        }
-                        return processAsynchronously(exchange, callback, throttlingState);
-                    }
+                }
 
-                    // block waiting for a permit
-                    long start = 0;
-                    long elapsed = 0;
-                    if (LOG.isTraceEnabled()) {
-                        start = System.currentTimeMillis();
+                // when there are no permits (throttle rate is 0) then wait a time period and try again,
+                // otherwise a permit has been reserved and we should wait until it can be used
+                boolean reserved = delay != NO_PERMITS;
+                long wait = reserved ? delay : TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+
+                // delegate to async pool
+                if (isAsyncDelayed() && !exchange.isTransacted()) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(
+                                "Throttle rate exceeded but AsyncDelayed enabled, so queueing for async processing, exchangeId: {}",
+                                exchange.getExchangeId());
                     }
-                    permit = throttlingState.take();
-                    if (LOG.isTraceEnabled()) {
-                        elapsed = System.currentTimeMillis() - start;
-                    }
-                    throttlingState.enqueue(permit, exchange);
-
-                    if (state == State.ASYNC) {
-                        if (LOG.isTraceEnabled()) {
-                            long queuedTime = start - queuedStart;
-                            if (LOG.isTraceEnabled()) {
-                                LOG.trace("Queued for {}ms, Throttled for {}ms, exchangeId: {}", queuedTime, elapsed,
-                                        exchange.getExchangeId());
-                            }
-                        }
-                    } else {
-                        if (LOG.isTraceEnabled()) {
-                            LOG.trace("Throttled for {}ms, exchangeId: {}", elapsed, exchange.getExchangeId());
-                        }
+                    if (processAsynchronously(exchange, callback, reserved, wait)) {
+                        return false;
                     }
                 }
-            } else {
-                throttlingState.enqueue(permit, exchange);
 
-                if (state == State.ASYNC) {
-                    if (LOG.isTraceEnabled()) {
-                        long queuedTime = System.currentTimeMillis() - queuedStart;
-                        LOG.trace("Queued for {}ms, No throttling applied (throttle cleared while queued), for exchangeId: {}",
-                                queuedTime, exchange.getExchangeId());
-                    }
-                } else {
-                    if (LOG.isTraceEnabled()) {
-                        LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
-                    }
+                // block waiting for the permit
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(wait),
+                            exchange.getExchangeId());
+                }
+                TimeUnit.NANOSECONDS.sleep(wait);
+                if (reserved) {
+                    break;
                 }
             }
 
@@ -214,42 +197,71 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     }
 
     /**
-     * Delegate blocking on the DelayQueue to an asyncExecutor. Except if the executor rejects the submission and
-     * isCallerRunsWhenRejected() is enabled, then this method will delegate back to process(), but not before changing
-     * the exchange state to stop any recursion.
+     * Schedules the exchange on the asyncExecutor to continue when the reserved permit can be used (or to try again if
+     * there was no permit). Except if the executor rejects the submission and isCallerRunsWhenRejected() is enabled,
+     * then this method returns <tt>false</tt> to let the caller thread wait instead.
      */
     protected boolean processAsynchronously(
-            final Exchange exchange, final AsyncCallback callback, ThrottlingState throttlingState) {
+            final Exchange exchange, final AsyncCallback callback, boolean reserved, long delay) {
         try {
-            if (LOG.isTraceEnabled()) {
-                exchange.setProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, System.currentTimeMillis());
+            if (reserved) {
+                asyncExecutor.schedule(() -> continueProcessing(exchange, callback), delay, TimeUnit.NANOSECONDS);
+            } else {
+                asyncExecutor.schedule(() -> doProcess(exchange, callback, false), delay, TimeUnit.NANOSECONDS);
             }
-            exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC);
-            long delay = throttlingState.peek().getDelay(TimeUnit.NANOSECONDS);
-            asyncExecutor.schedule(() -> process(exchange, callback), delay, TimeUnit.NANOSECONDS);
-            return false;
+            return true;
         } catch (final RejectedExecutionException e) {
             if (isCallerRunsWhenRejected()) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
                             exchange.getExchangeId());
                 }
-                exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC_REJECTED);
-                return process(exchange, callback);
+                return false;
             }
             throw e;
         }
     }
 
+    private void continueProcessing(final Exchange exchange, final AsyncCallback callback) {
+        if (!isRunAllowed()) {
+            exchange.setException(new RejectedExecutionException("Run is not allowed"));
+        } else if (LOG.isTraceEnabled()) {
+            LOG.trace("Throttled asynchronously, exchangeId: {}", exchange.getExchangeId());
+        }
+        callback.done(false);
+    }
+
+    /**
+     * Evicts the state of the correlation keys which have been idle for the clean period
+     */
+    protected void evictIdleStates() {
+        long now = System.nanoTime();
+        long idle = TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        states.values().removeIf(state -> state.evictIfIdle(now, idle));
+    }
+
     @Override
     protected void doStart() throws Exception {
         if (isAsyncDelayed()) {
             ObjectHelper.notNull(asyncExecutor, "executorService", this);
         }
+        if (asyncExecutor != null) {
+            try {
+                cleanFuture = asyncExecutor.scheduleWithFixedDelay(this::evictIdleStates, cleanPeriodMillis,
+                        cleanPeriodMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Throttling queue cleaning rejected", e);
+            }
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        ScheduledFuture<?> future = cleanFuture;
+        if (future != null) {
+            future.cancel(false);
+            cleanFuture = null;
+        }
     }
 
     @Override
@@ -262,9 +274,14 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     }
 
     private class ThrottlingState {
+        private static final long AVAILABLE = Long.MIN_VALUE;
+
         private final String key;
-        private final DelayQueue<ThrottlePermit> delayQueue = new DelayQueue<>();
-        private final AtomicReference<ScheduledFuture<?>> cleanFuture = new AtomicReference<>();
+        // the times (System.nanoTime) when each permit can be used again, in the order they were used starting from head
+        private long[] permits = new long[0];
+        private int head;
+        private long lastUsed = System.nanoTime();
+        private boolean evicted;
         private volatile int throttleRate;
 
         ThrottlingState(String key) {
@@ -275,41 +292,49 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             return throttleRate;
         }
 
-        public ThrottlePermit poll() {
-            return delayQueue.poll();
-        }
-
-        public ThrottlePermit peek() {
-            return delayQueue.peek();
-        }
-
-        public ThrottlePermit take() throws InterruptedException {
-            return delayQueue.take();
-        }
-
-        public void clean() {
-            states.remove(key);
-        }
-
         /**
-         * Returns a permit to the DelayQueue, first resetting it's delay to be relative to now.
+         * Acquires the next permit.
+         *
+         * @param  reserve whether to reserve the permit if its not yet available
+         * @return         0 if the permit was acquired, otherwise the delay in nanos until the permit can be used, or
+         *                 {@link #NO_PERMITS} or {@link #EVICTED}
          */
-        public void enqueue(final ThrottlePermit permit, final Exchange exchange) {
-            permit.setDelayMs(getTimePeriodMillis());
-            delayQueue.put(permit);
-            try {
-                ScheduledFuture<?> next = asyncExecutor.schedule(this::clean, cleanPeriodMillis, TimeUnit.MILLISECONDS);
-                ScheduledFuture<?> prev = cleanFuture.getAndSet(next);
-                if (prev != null) {
-                    prev.cancel(false);
-                }
-                // try and incur the least amount of overhead while releasing permits back to the queue
-                if (LOG.isTraceEnabled()) {
-                    LOG.trace("Permit released, for exchangeId: {}", exchange.getExchangeId());
+        public synchronized long acquire(boolean reserve) {
+            if (evicted) {
+                return EVICTED;
+            }
+            long now = System.nanoTime();
+            lastUsed = now;
+            if (permits.length == 0) {
+                return NO_PERMITS;
+            }
+            long next = permits[head];
+            long delay = next == AVAILABLE ? 0 : Math.max(0, next - now);
+            if (delay > 0 && !reserve) {
+                return delay;
+            }
+            // the permit can be used again one time period after it has been used
+            permits[head] = now + delay + TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+            if (++head == permits.length) {
+                head = 0;
+            }
+            return delay;
+        }
+
+        public synchronized boolean evictIfIdle(long now, long idle) {
+            if (now - lastUsed < idle) {
+                return false;
+            }
+            // the most recently used permit must be available again
+            if (permits.length > 0) {
+                long last = permits[head == 0 ? permits.length - 1 : head - 1];
+                if (last != AVAILABLE && last - now > 0) {
+                    return false;
                 }
-            } catch (RejectedExecutionException e) {
-                LOG.debug("Throttling queue cleaning rejected", e);
             }
+            LOG.trace("Evicting idle throttling state for key: {}", key);
+            evicted = true;
+            return true;
         }
 
         /**
@@ -332,17 +357,6 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
                 if (newThrottle != throttleRate) {
                     // decrease
                     if (throttleRate > newThrottle) {
-                        int delta = throttleRate - newThrottle;
-
-                        // discard any permits that are needed to decrease throttling
-                        while (delta > 0) {
-                            delayQueue.take();
-                            delta--;
-                            if (LOG.isTraceEnabled()) {
-                                LOG.trace("Permit discarded due to throttling rate decrease, triggered by ExchangeId: {}",
-                                        exchange.getExchangeId());
-                            }
-                        }
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate,
                                     newThrottle, exchange.getExchangeId());
@@ -350,10 +364,6 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
                         // increase
                     } else if (newThrottle > throttleRate) {
-                        int delta = newThrottle - throttleRate;
-                        for (int i = 0; i < delta; i++) {
-                            delayQueue.put(new ThrottlePermit(-1));
-                        }
                         if (throttleRate == 0) {
                             if (LOG.isDebugEnabled()) {
                                 LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
@@ -366,34 +376,27 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
                             }
                         }
                     }
+                    resize(newThrottle);
                     throttleRate = newThrottle;
                 }
             }
         }
-    }
 
-    /**
-     * Permit that implements the Delayed interface needed by DelayQueue.
-     */
-    private static class ThrottlePermit implements Delayed {
-        private volatile long scheduledTime;
-
-        ThrottlePermit(final long delayMs) {
-            setDelayMs(delayMs);
-        }
-
-        public void setDelayMs(final long delayMs) {
-            this.scheduledTime = System.currentTimeMillis() + delayMs;
-        }
-
-        @Override
-        public long getDelay(final TimeUnit unit) {
-            return unit.convert(scheduledTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
-        }
-
-        @Override
-        public int compareTo(final Delayed o) {
-            return Long.compare(getDelay(TimeUnit.MILLISECONDS), o.getDelay(TimeUnit.MILLISECONDS));
+        /**
+         * Resizes the permits, where new permits are available right away, and when decreasing then the permits which
+         * are available first are discarded.
+         */
+        private void resize(int newThrottle) {
+            long[] answer = new long[newThrottle];
+            int keep = Math.min(newThrottle, permits.length);
+            int added = newThrottle - keep;
+            int skip = permits.length - keep;
+            Arrays.fill(answer, 0, added, AVAILABLE);
+            for (int i = 0; i < keep; i++) {
+                answer[added + i] = permits[(head + skip + i) % permits.length];
+            }
+            permits = answer;
+            head = 0;
         }
     }
 
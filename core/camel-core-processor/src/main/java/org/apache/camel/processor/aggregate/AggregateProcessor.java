@@ -30,6 +30,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -102,7 +103,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
 
-    private volatile Lock lock;
+    // one lock per shard
+    private volatile Lock[] locks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -121,8 +123,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private ScheduledExecutorService optimisticLockingExecutorService;
     private boolean shutdownOptimisticLockingExecutorService;
     private ScheduledExecutorService recoverService;
-    // store correlation key -> exchange id in timeout map
-    private TimeoutMap<String, String> timeoutMap;
+    // store correlation key -> exchange id in timeout map (one per shard)
+    private List<TimeoutMap<String, String>> timeoutMaps;
     private ExceptionHandler exceptionHandler;
     private AggregationRepository aggregationRepository;
     private Map<String, String> closedCorrelationKeys;
@@ -141,6 +143,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private final AtomicLong completedByBatchConsumer = new AtomicLong();
     private final AtomicLong completedByForce = new AtomicLong();
     private final AtomicLong discarded = new AtomicLong();
+    private volatile AtomicLongArray shardTotalIn = new AtomicLongArray(1);
+    private volatile AtomicLongArray shardTotalCompleted = new AtomicLongArray(1);
 
     // keep booking about redelivery
     private static class RedeliveryData {
@@ -201,8 +205,31 @@ public class AggregateProcessor extends AsyncProcessorSupport
             return discarded.get();
         }
 
+        @Override
+        public int getShards() {
+            return shards;
+        }
+
+        @Override
+        public long getShardTotalIn(int shard) {
+            return shardTotalIn.get(shard);
+        }
+
+        @Override
+        public long getShardTotalCompleted(int shard) {
+            return shardTotalCompleted.get(shard);
+        }
+
+        @Override
+        public int getShardPendingTimeouts(int shard) {
+            List<TimeoutMap<String, String>> maps = timeoutMaps;
+            return maps != null ? maps.get(shard).size() : 0;
+        }
+
         @Override
         public void reset() {
+            shardTotalIn = new AtomicLongArray(shardTotalIn.length());
+            shardTotalCompleted = new AtomicLongArray(shardTotalCompleted.length());
             totalIn.set(0);
             totalCompleted.set(0);
             completedBySize.set(0);
@@ -247,6 +274,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private boolean forceCompletionOnStop;
     private boolean completeAllOnStop;
     private long completionTimeoutCheckerInterval = 1000;
+    private boolean completionTimeoutCheckerTimingWheel;
+    private int shards = 1;
 
     private ProducerTemplate deadLetterProducerTemplate;
 
@@ -355,6 +384,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
             return true;
         }
 
+        if (getStatistics().isStatisticsEnabled()) {
+            shardTotalIn.incrementAndGet(shardOf(key));
+        }
+
         if (optimisticLocking) {
             return doInOptimisticLock(exchange, key, callback, 0, true);
         } else {
@@ -402,9 +435,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
+        AtomicBoolean completeAllGroups = new AtomicBoolean();
+        Lock lock = locks[shardOf(key)];
         lock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
@@ -417,6 +452,12 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // when using shards then all groups are completed after the lock of the shard has been released,
+        // as completing all groups must acquire the locks of all the shards in order to not deadlock
+        if (completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -470,11 +511,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeAllGroups                       set to <tt>true</tt> if all groups should be completed after
+     *                                                 the lock of the shard has been released
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -574,7 +618,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (shards > 1) {
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -781,10 +829,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregationRepository.remove(aggregated.getContext(), key, original);
         }
 
-        if (!fromTimeout && timeoutMap != null) {
+        if (!fromTimeout && timeoutMaps != null) {
             // cleanup timeout map if it was a incoming exchange which triggered the timeout (and not the timeout checker)
             LOG.trace("Removing correlation key {} from timeout", key);
-            timeoutMap.remove(key);
+            timeoutMaps.get(shardOf(key)).remove(key);
         }
 
         // this key has been closed so add it to the closed map
@@ -840,6 +888,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         if (getStatistics().isStatisticsEnabled()) {
             totalCompleted.incrementAndGet();
+            shardTotalCompleted.incrementAndGet(shardOf(key));
 
             String completedBy = exchange.getProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, String.class);
             switch (completedBy) {
@@ -923,8 +972,12 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
 
         // log duration of this task so end user can see how long it takes to pre-check this upon starting
+        int size = 0;
+        for (TimeoutMap<String, String> timeoutMap : timeoutMaps) {
+            size += timeoutMap.size();
+        }
         LOG.info("Restored {} CompletionTimeout conditions in the AggregationTimeoutChecker in {}",
-                timeoutMap.size(), TimeUtils.printDuration(watch.taken()));
+                size, TimeUtils.printDuration(watch.taken()));
     }
 
     /**
@@ -937,7 +990,33 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private void addExchangeToTimeoutMap(String key, Exchange exchange, long timeout) {
         // store the timeout value on the exchange as well, in case we need it later
         exchange.setProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, timeout);
-        timeoutMap.put(key, exchange.getExchangeId(), timeout);
+        timeoutMaps.get(shardOf(key)).put(key, exchange.getExchangeId(), timeout);
+    }
+
+    /**
+     * The shard the given correlation key belongs to.
+     */
+    private int shardOf(String key) {
+        if (shards == 1) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), shards);
+    }
+
+    /**
+     * Acquires the locks of all the shards, which must be done in the same order to avoid deadlocks.
+     */
+    private void lockAll() {
+        for (Lock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
     }
 
     /**
@@ -1068,6 +1147,33 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public boolean isCompletionTimeoutCheckerTimingWheel() {
+        return completionTimeoutCheckerTimingWheel;
+    }
+
+    /**
+     * Sets whether the completion timeout checker keeps the correlation groups in a hashed timing wheel, so it only
+     * visits the groups which may have timed out, instead of all the groups on every check.
+     */
+    public void setCompletionTimeoutCheckerTimingWheel(boolean completionTimeoutCheckerTimingWheel) {
+        this.completionTimeoutCheckerTimingWheel = completionTimeoutCheckerTimingWheel;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Sets the number of shards the correlation groups are partitioned into, by the hash of the correlation key. Each
+     * shard has its own lock and completion timeout checker, so correlation groups in different shards can be
+     * aggregated concurrently. Default is 1.
+     */
+    public void setShards(int shards) {
+        this.shards = shards;
+        this.shardTotalIn = new AtomicLongArray(Math.max(1, shards));
+        this.shardTotalCompleted = new AtomicLongArray(Math.max(1, shards));
+    }
+
     public ExceptionHandler getExceptionHandler() {
         return exceptionHandler;
     }
@@ -1234,17 +1340,23 @@ public class AggregateProcessor extends AsyncProcessorSupport
      */
     private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
 
-        private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        private final int shard;
+
+        private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, int shard) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
             super(executor, requestMapPollTimeMillis, optimisticLocking);
+            this.shard = shard;
+            setTimingWheel(completionTimeoutCheckerTimingWheel);
             addListener(this::onEviction);
         }
 
         @Override
         protected void purge() {
             // wait for lock to be created
-            if (lock != null) {
-                // must acquire the shared aggregation lock to be able to purge
+            Lock[] current = locks;
+            if (current != null) {
+                // must acquire the shared aggregation lock of this shard to be able to purge
+                Lock lock = current[shard];
                 lock.lock();
                 try {
                     super.purge();
@@ -1313,7 +1425,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                lockAll();
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
@@ -1340,7 +1452,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1379,7 +1491,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     LOG.info("We are shutting down so stop recovering");
                     return;
                 }
-                lock.lock();
+                // the correlation key is not known until recovered so acquire the locks of all shards
+                lockAll();
                 try {
                     // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                     // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1453,7 +1566,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1482,6 +1595,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
             }
         }
 
+        if (shards <= 0) {
+            throw new IllegalArgumentException("Option shards must be a positive number, was: " + shards);
+        }
+        if (shards > 1 && (isCompletionOnNewCorrelationGroup() || isCompletionFromBatchConsumer())) {
+            // these complete groups in other shards while aggregating, which needs more than the lock of one shard
+            throw new IllegalArgumentException(
+                    "Option shards cannot be used together with completionOnNewCorrelationGroup or completionFromBatchConsumer");
+        }
+
         if (getCloseCorrelationKeyOnCompletion() != null) {
             if (getCloseCorrelationKeyOnCompletion() > 0) {
                 LOG.info("Using ClosedCorrelationKeys with a LRUCache with a capacity of {}",
@@ -1565,16 +1687,27 @@ public class AggregateProcessor extends AsyncProcessorSupport
         if (getCompletionTimeout() > 0 || getCompletionTimeoutExpression() != null) {
             LOG.info("Using CompletionTimeout to trigger after {} millis of inactivity.", getCompletionTimeout());
             if (getTimeoutCheckerExecutorService() == null) {
-                setTimeoutCheckerExecutorService(camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
-                        AGGREGATE_TIMEOUT_CHECKER));
+                if (shards > 1) {
+                    // use a thread per shard so the shards can check for timeouts independently
+                    setTimeoutCheckerExecutorService(camelContext.getExecutorServiceManager().newScheduledThreadPool(this,
+                            AGGREGATE_TIMEOUT_CHECKER, shards));
+                } else {
+                    setTimeoutCheckerExecutorService(camelContext.getExecutorServiceManager()
+                            .newSingleThreadScheduledExecutor(this, AGGREGATE_TIMEOUT_CHECKER));
+                }
                 shutdownTimeoutCheckerExecutorService = true;
             }
             // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            List<TimeoutMap<String, String>> maps = new ArrayList<>(shards);
+            for (int i = 0; i < shards; i++) {
+                maps.add(new AggregationTimeoutMap(
+                        getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval(), i));
+            }
+            timeoutMaps = maps;
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
-            ServiceHelper.startService(timeoutMap);
+            ServiceHelper.startService(timeoutMaps);
         }
 
         if (aggregateController == null) {
@@ -1582,15 +1715,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
         aggregateController.onStart(this);
 
+        Lock[] newLocks = new Lock[shards];
+        for (int i = 0; i < shards; i++) {
+            newLocks[i] = optimisticLocking ? NoLock.INSTANCE : new ReentrantLock();
+        }
+        locks = newLocks;
         if (optimisticLocking) {
-            lock = NoLock.INSTANCE;
             if (getOptimisticLockingExecutorService() == null) {
                 setOptimisticLockingExecutorService(camelContext.getExecutorServiceManager()
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
-        } else {
-            lock = new ReentrantLock();
         }
     }
 
@@ -1614,7 +1749,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
             shutdownTimeoutCheckerExecutorService = false;
         }
 
-        ServiceHelper.stopService(timeoutMap, processor, deadLetterProducerTemplate);
+        ServiceHelper.stopService(timeoutMaps, processor, deadLetterProducerTemplate);
 
         if (closedCorrelationKeys != null) {
             // it may be a service so stop it as well
@@ -1701,6 +1836,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
+        Lock lock = locks[shardOf(key)];
         lock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
@@ -1743,7 +1879,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1759,7 +1895,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         LOG.trace("Completed force completion of all groups task");
@@ -1774,6 +1910,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
+        Lock lock = locks[shardOf(key)];
         lock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
@@ -1812,7 +1949,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1824,7 +1961,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         LOG.trace("Completed force discarding of all groups task");
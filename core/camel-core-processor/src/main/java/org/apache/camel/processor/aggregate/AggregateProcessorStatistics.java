@@ -71,6 +71,32 @@ public interface AggregateProcessorStatistics {
      */
     long getDiscarded();
 
+    /**
+     * Number of shards the correlation groups are partitioned into
+     */
+    int getShards();
+
+    /**
+     * Total number of exchanges arrived into the given shard
+     *
+     * @param shard the shard index, from 0 to {@link #getShards()} - 1
+     */
+    long getShardTotalIn(int shard);
+
+    /**
+     * Total number of exchanges completed and outgoing from the given shard
+     *
+     * @param shard the shard index, from 0 to {@link #getShards()} - 1
+     */
+    long getShardTotalCompleted(int shard);
+
+    /**
+     * Current number of correlation groups in the given shard which are waiting for the completion timeout
+     *
+     * @param shard the shard index, from 0 to {@link #getShards()} - 1
+     */
+    int getShardPendingTimeouts(int shard);
+
     /**
      * Reset the counters
      */
@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent {@link org.apache.camel.spi.AggregationRepository} which stores {@link Exchange}s in memory-mapped
+ * files in a local directory, and does not require any external database or native library.
+ * <p/>
+ * Changes are appended to a log of segment files, where each change only stores the exchange that was changed. The
+ * index of the exchanges is checkpointed when a new segment file is started, and when the repository is stopped, so
+ * after a crash only the records written after the last checkpoint are replayed.
+ * <p/>
+ * The exchanges are serialized using {@link DefaultExchangeHolder}, which means only the body, the headers and the
+ * aggregation related exchange properties are stored.
+ */
+public class MappedFileAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileAggregationRepository.class);
+
+    private File directory;
+    private int segmentSize = 64 * 1024 * 1024;
+    private boolean sync;
+    private boolean returnOldExchange;
+    private boolean allowSerializedHeaders;
+    private long recoveryInterval = 5000;
+    private boolean useRecovery = true;
+    private int maximumRedeliveries;
+    private String deadLetterUri;
+    private MappedFileLog log;
+
+    /**
+     * Creates an aggregation repository
+     */
+    public MappedFileAggregationRepository() {
+    }
+
+    /**
+     * Creates an aggregation repository which stores the exchanges in the given directory.
+     *
+     * @param directory the directory
+     */
+    public MappedFileAggregationRepository(File directory) {
+        ObjectHelper.notNull(directory, "directory");
+        this.directory = directory;
+    }
+
+    /**
+     * Creates an aggregation repository which stores the exchanges in the given directory.
+     *
+     * @param directory the directory
+     */
+    public MappedFileAggregationRepository(String directory) {
+        this(new File(directory));
+    }
+
+    @Override
+    public synchronized Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        LOG.debug("Adding key [{}] -> {}", key, exchange);
+        try {
+            Exchange answer = null;
+            if (isReturnOldExchange()) {
+                answer = get(camelContext, key);
+            }
+            log.add(key, marshal(exchange));
+            return answer;
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error adding to repository " + directory + " with key " + key, e);
+        }
+    }
+
+    @Override
+    public synchronized Exchange get(CamelContext camelContext, String key) {
+        MappedFileLog.Location location = log.get(key);
+        Exchange answer = location != null ? unmarshal(camelContext, log.read(location)) : null;
+        LOG.debug("Getting key [{}] -> {}", key, answer);
+        return answer;
+    }
+
+    @Override
+    public synchronized void remove(CamelContext camelContext, String key, Exchange exchange) {
+        LOG.debug("Removing key [{}]", key);
+        try {
+            log.remove(key, exchange.getExchangeId(), marshal(exchange));
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error removing key " + key + " from repository " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized void confirm(CamelContext camelContext, String exchangeId) {
+        LOG.debug("Confirming exchangeId [{}]", exchangeId);
+        try {
+            log.confirm(exchangeId);
+        } catch (IOException e) {
+            throw new RuntimeCamelException(
+                    "Error confirming exchangeId " + exchangeId + " from repository " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized Set<String> getKeys() {
+        // interval task could potentially be running while we are shutting down so check for that
+        if (!isRunAllowed()) {
+            return null;
+        }
+        return new LinkedHashSet<>(log.keys());
+    }
+
+    @Override
+    public synchronized Set<String> scan(CamelContext camelContext) {
+        if (!isRunAllowed()) {
+            return null;
+        }
+        Set<String> answer = new LinkedHashSet<>(log.completedIds());
+        if (answer.isEmpty()) {
+            LOG.trace("Scanned and found no exchange to recover.");
+        } else {
+            LOG.debug("Scanned and found {} exchange(s) to recover (note some of them may already be in progress).",
+                    answer.size());
+        }
+        return answer;
+    }
+
+    @Override
+    public synchronized Exchange recover(CamelContext camelContext, String exchangeId) {
+        MappedFileLog.Location location = log.getCompleted(exchangeId);
+        Exchange answer = location != null ? unmarshal(camelContext, log.read(location)) : null;
+        LOG.debug("Recovering exchangeId [{}] -> {}", exchangeId, answer);
+        return answer;
+    }
+
+    private byte[] marshal(Exchange exchange) throws IOException {
+        // use DefaultExchangeHolder to marshal to a serialized object
+        DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
+        // add the aggregated properties we want to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_SIZE,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, Integer.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_TIMEOUT,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, Long.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COMPLETED_BY,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, String.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_CORRELATION_KEY,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COLLECTION_GUARD,
+                exchange.getProperty(Exchange.AGGREGATED_COLLECTION_GUARD, String.class));
+        // persist the from endpoint as well
+        if (exchange.getFromEndpoint() != null) {
+            DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(pe);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Exchange unmarshal(CamelContext camelContext, byte[] data) {
+        DefaultExchangeHolder pe;
+        try (ObjectInputStream in = new ContextObjectInputStream(camelContext, new ByteArrayInputStream(data))) {
+            pe = (DefaultExchangeHolder) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException("Error reading exchange from repository " + directory, e);
+        }
+
+        Exchange answer = new DefaultExchange(camelContext);
+        DefaultExchangeHolder.unmarshal(answer, pe);
+        // restore the from endpoint
+        String fromEndpointUri = (String) answer.removeProperty("CamelAggregatedFromEndpoint");
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.adapt(ExtendedExchange.class).setFromEndpoint(fromEndpoint);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Resolves classes using the application context class loader if possible.
+     */
+    private static final class ContextObjectInputStream extends ObjectInputStream {
+        private final CamelContext camelContext;
+
+        private ContextObjectInputStream(CamelContext camelContext, InputStream in) throws IOException {
+            super(in);
+            this.camelContext = camelContext;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader cl = camelContext.getApplicationContextClassLoader();
+            if (cl != null) {
+                try {
+                    return Class.forName(desc.getName(), false, cl);
+                } catch (ClassNotFoundException e) {
+                    // ignore and use the default
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory to store the segment files in.
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * The size in bytes of each segment file. Exchanges larger than this are stored in a segment file of their own.
+     * Default is 64 MB.
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether each change should be forced to disk before returning. This protects against losing changes if the
+     * operating system crashes, but is much slower. Changes are not lost if only the JVM crashes. Default is false.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public boolean isReturnOldExchange() {
+        return returnOldExchange;
+    }
+
+    public void setReturnOldExchange(boolean returnOldExchange) {
+        this.returnOldExchange = returnOldExchange;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        this.recoveryInterval = timeUnit.toMillis(interval);
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval) {
+        this.recoveryInterval = interval;
+    }
+
+    @Override
+    public long getRecoveryIntervalInMillis() {
+        return recoveryInterval;
+    }
+
+    @Override
+    public boolean isUseRecovery() {
+        return useRecovery;
+    }
+
+    @Override
+    public void setUseRecovery(boolean useRecovery) {
+        this.useRecovery = useRecovery;
+    }
+
+    @Override
+    public int getMaximumRedeliveries() {
+        return maximumRedeliveries;
+    }
+
+    @Override
+    public void setMaximumRedeliveries(int maximumRedeliveries) {
+        this.maximumRedeliveries = maximumRedeliveries;
+    }
+
+    @Override
+    public String getDeadLetterUri() {
+        return deadLetterUri;
+    }
+
+    @Override
+    public void setDeadLetterUri(String deadLetterUri) {
+        this.deadLetterUri = deadLetterUri;
+    }
+
+    @Override
+    protected synchronized void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory");
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("SegmentSize must be a positive number, was: " + segmentSize);
+        }
+
+        log = new MappedFileLog(directory, segmentSize, sync);
+        log.open();
+        LOG.debug("Replayed {} records from the log in directory: {}", log.getReplayed(), directory);
+
+        // log number of existing exchanges
+        int current = log.keys().size();
+        int completed = log.completedIds().size();
+        if (current > 0) {
+            LOG.info("On startup there are {} aggregate exchanges (not completed) in repository: {}", current, directory);
+        } else {
+            LOG.info("On startup there are no existing aggregate exchanges (not completed) in repository: {}", directory);
+        }
+        if (completed > 0) {
+            LOG.warn("On startup there are {} completed exchanges to be recovered in repository: {}", completed, directory);
+        } else {
+            LOG.info("On startup there are no completed exchanges to be recovered in repository: {}", directory);
+        }
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+    }
+}
@@ -0,0 +1,481 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only log of aggregated exchanges stored in memory-mapped segment files, used by
+ * {@link MappedFileAggregationRepository}.
+ * <p/>
+ * Each change to the repository appends a single record, holding only the exchange that changed, to the active
+ * segment. An index of the live records is kept in memory, and written to a checkpoint file whenever a new segment is
+ * started and when the log is closed. On startup the checkpoint is loaded and only the records written after it are
+ * replayed. Each record has a CRC32 checksum so a record that was only partially written before a crash is detected
+ * and discarded.
+ * <p/>
+ * Segments which no longer hold any live records are deleted, oldest first.
+ * <p/>
+ * This class is not thread safe.
+ */
+final class MappedFileLog {
+
+    static final byte ADD = 1;
+    static final byte REMOVE = 2;
+    static final byte CONFIRM = 3;
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileLog.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final int CHECKPOINT_MAGIC = 0x43414d4c;
+    // record length and crc
+    private static final int HEADER_SIZE = 8;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final File directory;
+    private final int segmentSize;
+    private final boolean sync;
+    // correlation key -> aggregated exchange
+    private final Map<String, Location> current = new LinkedHashMap<>();
+    // exchange id -> completed exchange waiting to be confirmed
+    private final Map<String, Location> completed = new LinkedHashMap<>();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private Segment active;
+    private int replayed;
+
+    /**
+     * The position of the exchange data of a record.
+     */
+    static final class Location {
+        final int segment;
+        final int offset;
+        final int length;
+
+        Location(int segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private static final class Segment {
+        final int id;
+        final File file;
+        final RandomAccessFile raf;
+        final MappedByteBuffer buffer;
+        // next write position
+        int position;
+        // number of live records in this segment
+        int live;
+
+        Segment(int id, File file, int size) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.raf = new RandomAccessFile(file, "rw");
+            if (raf.length() < size) {
+                raf.setLength(size);
+            }
+            this.buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+
+        void close() {
+            IOHelper.close(raf);
+        }
+    }
+
+    MappedFileLog(File directory, int segmentSize, boolean sync) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+    }
+
+    /**
+     * Opens the log, and restores the index from the checkpoint and the records written after the checkpoint.
+     */
+    void open() throws IOException {
+        Files.createDirectories(directory.toPath());
+
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                int id = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                if (file.length() < HEADER_SIZE || file.length() > Integer.MAX_VALUE) {
+                    // the segment was being created when stopped
+                    LOG.debug("Deleting invalid segment file: {}", file);
+                    Files.delete(file.toPath());
+                    continue;
+                }
+                segments.put(id, new Segment(id, file, (int) file.length()));
+            }
+        }
+
+        int fromSegment = segments.isEmpty() ? 0 : segments.firstKey();
+        int fromPosition = 0;
+        int[] checkpoint = readCheckpoint();
+        if (checkpoint != null) {
+            fromSegment = checkpoint[0];
+            fromPosition = checkpoint[1];
+        } else {
+            current.clear();
+            completed.clear();
+        }
+
+        for (Segment segment : segments.tailMap(fromSegment, true).values()) {
+            segment.position = replay(segment, segment.id == fromSegment ? fromPosition : 0);
+        }
+        for (Location location : current.values()) {
+            segments.get(location.segment).live++;
+        }
+        for (Location location : completed.values()) {
+            segments.get(location.segment).live++;
+        }
+
+        if (segments.isEmpty()) {
+            active = createSegment(0, segmentSize);
+        } else {
+            active = segments.lastEntry().getValue();
+            // clear any partially written record so it is not mistaken for a record later
+            ByteBuffer buffer = active.buffer;
+            for (int i = active.position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+    }
+
+    /**
+     * Writes a checkpoint and closes the segment files.
+     */
+    void close() throws IOException {
+        try {
+            if (active != null) {
+                checkpoint();
+            }
+        } finally {
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+            segments.clear();
+            current.clear();
+            completed.clear();
+            active = null;
+        }
+    }
+
+    /**
+     * Number of records which were replayed from the log when it was opened.
+     */
+    int getReplayed() {
+        return replayed;
+    }
+
+    Set<String> keys() {
+        return Collections.unmodifiableSet(current.keySet());
+    }
+
+    Set<String> completedIds() {
+        return Collections.unmodifiableSet(completed.keySet());
+    }
+
+    Location get(String key) {
+        return current.get(key);
+    }
+
+    Location getCompleted(String exchangeId) {
+        return completed.get(exchangeId);
+    }
+
+    byte[] read(Location location) {
+        ByteBuffer buffer = segments.get(location.segment).buffer.duplicate();
+        buffer.position(location.offset);
+        byte[] data = new byte[location.length];
+        buffer.get(data);
+        return data;
+    }
+
+    /**
+     * Adds or replaces the exchange of the correlation key.
+     */
+    void add(String key, byte[] data) throws IOException {
+        Location location = append(ADD, key, "", data);
+        retain(location);
+        release(current.put(key, location));
+    }
+
+    /**
+     * Removes the exchange of the correlation key, and stores the exchange as completed until it is confirmed.
+     */
+    void remove(String key, String exchangeId, byte[] data) throws IOException {
+        if (!current.containsKey(key)) {
+            return;
+        }
+        Location location = append(REMOVE, key, exchangeId, data);
+        release(current.remove(key));
+        retain(location);
+        release(completed.put(exchangeId, location));
+    }
+
+    /**
+     * Confirms the completed exchange, so it does not need to be recovered.
+     */
+    void confirm(String exchangeId) throws IOException {
+        if (!completed.containsKey(exchangeId)) {
+            return;
+        }
+        append(CONFIRM, exchangeId, "", EMPTY);
+        release(completed.remove(exchangeId));
+    }
+
+    private void retain(Location location) {
+        segments.get(location.segment).live++;
+    }
+
+    private void release(Location location) {
+        if (location != null) {
+            segments.get(location.segment).live--;
+        }
+    }
+
+    private Location append(byte type, String first, String second, byte[] data) throws IOException {
+        byte[] a = first.getBytes(StandardCharsets.UTF_8);
+        byte[] b = second.getBytes(StandardCharsets.UTF_8);
+        long size = 1L + 4 + a.length + 4 + b.length + data.length;
+        if (HEADER_SIZE + size > Integer.MAX_VALUE) {
+            throw new IOException("Exchange is too large to be stored: " + data.length + " bytes");
+        }
+        int length = (int) size;
+        if (active.position + HEADER_SIZE + length > active.buffer.capacity()) {
+            roll(HEADER_SIZE + length);
+        }
+
+        int position = active.position;
+        int body = position + HEADER_SIZE;
+        ByteBuffer buffer = active.buffer.duplicate();
+        buffer.position(body);
+        buffer.put(type).putInt(a.length).put(a).putInt(b.length).put(b).put(data);
+        // write the length last as a zero length marks the end of the log
+        buffer.putInt(position + 4, checksum(buffer, body, length));
+        buffer.putInt(position, length);
+        if (sync) {
+            active.buffer.force();
+        }
+        active.position = body + length;
+        return new Location(active.id, active.position - data.length, data.length);
+    }
+
+    /**
+     * Replays the records of the segment from the given position, until the end of the log.
+     *
+     * @return the position after the last valid record
+     */
+    private int replay(Segment segment, int position) {
+        ByteBuffer buffer = segment.buffer.duplicate();
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.capacity() - position - HEADER_SIZE) {
+                break;
+            }
+            int body = position + HEADER_SIZE;
+            if (buffer.getInt(position + 4) != checksum(buffer, body, length)) {
+                LOG.warn("Discarding partially written record at position {} in segment file: {}", position, segment.file);
+                break;
+            }
+
+            buffer.position(body);
+            byte type = buffer.get();
+            String first = readString(buffer);
+            String second = readString(buffer);
+            int offset = buffer.position();
+            Location location = new Location(segment.id, offset, body + length - offset);
+            if (type == ADD) {
+                current.put(first, location);
+            } else if (type == REMOVE) {
+                current.remove(first);
+                completed.put(second, location);
+            } else if (type == CONFIRM) {
+                completed.remove(first);
+            }
+            replayed++;
+            position = body + length;
+        }
+        return position;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] data = new byte[buffer.getInt()];
+        buffer.get(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer data = buffer.duplicate();
+        data.limit(offset + length).position(offset);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Starts a new segment, and deletes the oldest segments that no longer have live records.
+     */
+    private void roll(int minSize) throws IOException {
+        active = createSegment(active.id + 1, Math.max(segmentSize, minSize));
+        checkpoint();
+
+        // only delete from the oldest segment, so a record in an older segment cannot be replayed without a record
+        // in a newer segment which removed it
+        while (segments.firstKey() != active.id) {
+            Segment segment = segments.firstEntry().getValue();
+            if (segment.live > 0) {
+                break;
+            }
+            segments.remove(segment.id);
+            segment.close();
+            LOG.debug("Deleting segment file with no live records: {}", segment.file);
+            if (!segment.file.delete()) {
+                LOG.warn("Cannot delete segment file: {}", segment.file);
+            }
+        }
+    }
+
+    private Segment createSegment(int id, int size) throws IOException {
+        File file = new File(directory, SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+        Segment segment = new Segment(id, file, size);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    /**
+     * Writes the index and the current position of the log to the checkpoint file.
+     */
+    private void checkpoint() throws IOException {
+        // the records referenced by the checkpoint must be stored before the checkpoint
+        for (Segment segment : segments.values()) {
+            segment.buffer.force();
+        }
+
+        File tmp = new File(directory, CHECKPOINT + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmp)) {
+            CheckedOutputStream cos = new CheckedOutputStream(new BufferedOutputStream(fos), new CRC32());
+            DataOutputStream out = new DataOutputStream(cos);
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(active.id);
+            out.writeInt(active.position);
+            writeIndex(out, current);
+            writeIndex(out, completed);
+            out.flush();
+            out.writeLong(cos.getChecksum().getValue());
+            out.flush();
+            fos.getFD().sync();
+        }
+        Files.move(tmp.toPath(), new File(directory, CHECKPOINT).toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeIndex(DataOutputStream out, Map<String, Location> index) throws IOException {
+        out.writeInt(index.size());
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(key.length);
+            out.write(key);
+            out.writeInt(entry.getValue().segment);
+            out.writeInt(entry.getValue().offset);
+            out.writeInt(entry.getValue().length);
+        }
+    }
+
+    /**
+     * Loads the index from the checkpoint file.
+     *
+     * @return the segment and position to replay from, or <tt>null</tt> if there is no valid checkpoint, and the entire
+     *         log must be replayed
+     */
+    private int[] readCheckpoint() {
+        File file = new File(directory, CHECKPOINT);
+        if (!file.exists()) {
+            return null;
+        }
+        try (CheckedInputStream cis = new CheckedInputStream(new BufferedInputStream(new FileInputStream(file)), new CRC32())) {
+            DataInputStream in = new DataInputStream(cis);
+            if (in.readInt() != CHECKPOINT_MAGIC) {
+                throw new IOException("Invalid checkpoint file");
+            }
+            int segment = in.readInt();
+            int position = in.readInt();
+            readIndex(in, current);
+            readIndex(in, completed);
+            long checksum = cis.getChecksum().getValue();
+            if (in.readLong() != checksum || !segments.containsKey(segment)) {
+                throw new IOException("Invalid checkpoint file");
+            }
+            for (Location location : current.values()) {
+                checkLocation(location);
+            }
+            for (Location location : completed.values()) {
+                checkLocation(location);
+            }
+            return new int[] { segment, position };
+        } catch (IOException e) {
+            LOG.warn("Cannot load checkpoint file: {} due to: {}. The entire log will be replayed.", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void checkLocation(Location location) throws IOException {
+        Segment segment = segments.get(location.segment);
+        if (segment == null || location.offset + location.length > segment.buffer.capacity()) {
+            throw new IOException("Invalid checkpoint file");
+        }
+    }
+
+    private static void readIndex(DataInputStream in, Map<String, Location> index) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            byte[] key = new byte[in.readInt()];
+            in.readFully(key);
+            index.put(new String(key, StandardCharsets.UTF_8), new Location(in.readInt(), in.readInt(), in.readInt()));
+        }
+    }
+}
@@ -204,6 +204,14 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (completionTimeoutCheckerInterval != null) {
             answer.setCompletionTimeoutCheckerInterval(completionTimeoutCheckerInterval);
         }
+        Boolean completionTimeoutCheckerTimingWheel = parseBoolean(definition.getCompletionTimeoutCheckerTimingWheel());
+        if (completionTimeoutCheckerTimingWheel != null) {
+            answer.setCompletionTimeoutCheckerTimingWheel(completionTimeoutCheckerTimingWheel);
+        }
+        Integer shards = parseInt(definition.getShards());
+        if (shards != null) {
+            answer.setShards(shards);
+        }
         return answer;
     }
 
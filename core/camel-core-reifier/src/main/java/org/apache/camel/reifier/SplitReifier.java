@@ -74,6 +74,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, definition.getOnPrepare(),
                     isShareUnitOfWork, isParallelAggregate);
         }
+        answer.setStreamingOrdered(parseBoolean(definition.getStreamingOrdered(), false));
+        answer.setParallelWindowSize(parseInt(definition.getParallelWindowSize(), 0));
 
         return answer;
     }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanMethodHandleInvokeTest extends ContextTestSupport {
+
+    @Test
+    public void testInvokeRepeatedly() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Hello World " + i, template.requestBodyAndHeader("direct:hello", "World", "count", i));
+        }
+    }
+
+    @Test
+    public void testInvokeWithArgumentsToConvert() throws Exception {
+        assertEquals(12L, template.requestBodyAndHeader("direct:sum", 5, "other", 7L));
+
+        // null cannot be given to a primitive parameter
+        Exchange out = template.request("direct:sum", e -> e.getIn().setBody(null));
+        assertTrue(out.isFailed(), "Should fail");
+    }
+
+    @Test
+    public void testInvokeStatic() throws Exception {
+        assertEquals("Bye World", template.requestBody("direct:static", "Hello World"));
+    }
+
+    @Test
+    public void testMethodThrowsException() throws Exception {
+        Exchange out = template.request("direct:fail", e -> e.getIn().setBody("Kaboom"));
+        assertTrue(out.isFailed(), "Should fail");
+        IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, out.getException());
+        assertEquals("Kaboom", cause.getMessage());
+    }
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry answer = super.createRegistry();
+        answer.bind("myBean", new MyBean());
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:hello").to("bean:myBean?method=hello(${body}, ${header.count})");
+                from("direct:sum").to("bean:myBean?method=sum(${body}, ${header.other})");
+                from("direct:static").bean(MyStaticClass.class, "changeSomething");
+                from("direct:fail").to("bean:myBean?method=fail");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        public String hello(String name, int count) {
+            return "Hello " + name + " " + count;
+        }
+
+        public long sum(long a, int b) {
+            return a + b;
+        }
+
+        public void fail(String message) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
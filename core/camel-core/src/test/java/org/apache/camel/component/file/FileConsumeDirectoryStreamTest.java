@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for listing the directories using a directory stream
+ */
+public class FileConsumeDirectoryStreamTest extends ContextTestSupport {
+
+    @Test
+    public void testDirectoryStreamRecursive() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        // we should poll at most 3 per poll
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader(fileUri(), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+            template.sendBodyAndHeader(fileUri(), "Bye " + i, Exchange.FILE_NAME, "sub/bye" + i + ".txt");
+        }
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDirectoryStreamDoneFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:done");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader(fileUri("done"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri("done"), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUri("done"), "", Exchange.FILE_NAME, "hello.txt.done");
+
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDirectoryStreamResumeFromCursor() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:cursor");
+        mock.expectedMinimumMessageCount(6);
+        // we should poll at most 2 per poll
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(2).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBodyAndHeader(fileUri("cursor"), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        context.getRouteController().startRoute("baz");
+
+        assertMockEndpointsSatisfied();
+
+        // the files are kept (noop) so each poll continues from where the previous poll stopped,
+        // instead of picking up the same first 2 files over and over again
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            names.add(mock.getReceivedExchanges().get(i).getIn().getHeader(Exchange.FILE_NAME, String.class));
+        }
+        assertEquals(6, names.size(), "The first 3 polls should pick up all the files: " + names);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&directoryStream=true&recursive=true&maxMessagesPerPoll=3"))
+                        .routeId("foo").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("done?initialDelay=0&delay=10&directoryStream=true&doneFileName=${file:name}.done"))
+                        .routeId("bar").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:done");
+
+                from(fileUri(
+                        "cursor?initialDelay=0&delay=10&directoryStream=true&maxMessagesPerPoll=2&noop=true&idempotent=false"))
+                        .routeId("baz").noAutoStartup()
+                        .to("mock:cursor");
+            }
+        };
+    }
+
+}
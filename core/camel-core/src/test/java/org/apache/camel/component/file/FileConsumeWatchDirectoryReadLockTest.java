@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test that files which could not be read locked using the watch service are polled again on the next poll
+ */
+public class FileConsumeWatchDirectoryReadLockTest extends ContextTestSupport {
+
+    private final MyReadLockStrategy myReadLockStrategy = new MyReadLockStrategy();
+
+    @Test
+    public void testWatchDirectoryReadLockRejected() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+        // should not wait for the reconcile interval to poll the file again
+        mock.setResultWaitTime(TimeUnit.SECONDS.toMillis(5));
+
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+
+        // the first attempt was rejected
+        assertTrue(myReadLockStrategy.getCounter() >= 2);
+    }
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("myReadLockStrategy", myReadLockStrategy);
+        return jndi;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&watchDirectory=true&watchReconcileInterval=3600000"
+                             + "&exclusiveReadLockStrategy=#myReadLockStrategy"))
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+
+    // rejects the read lock on the first attempt
+    private static class MyReadLockStrategy implements GenericFileExclusiveReadLockStrategy<File> {
+
+        private volatile int counter;
+
+        @Override
+        public void prepareOnStartup(GenericFileOperations<File> operations, GenericFileEndpoint<File> endpoint) {
+            // noop
+        }
+
+        @Override
+        public boolean acquireExclusiveReadLock(
+                GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) {
+            return counter++ > 0;
+        }
+
+        @Override
+        public void releaseExclusiveReadLockOnAbort(
+                GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) {
+            // noop
+        }
+
+        @Override
+        public void releaseExclusiveReadLockOnRollback(
+                GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) {
+            // noop
+        }
+
+        @Override
+        public void releaseExclusiveReadLockOnCommit(
+                GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) {
+            // noop
+        }
+
+        @Override
+        public void setTimeout(long timeout) {
+            // noop
+        }
+
+        @Override
+        public void setCheckInterval(long checkInterval) {
+            // noop
+        }
+
+        @Override
+        public void setReadLockLoggingLevel(LoggingLevel readLockLoggingLevel) {
+            // noop
+        }
+
+        @Override
+        public void setMarkerFiler(boolean markerFile) {
+            // noop
+        }
+
+        @Override
+        public void setDeleteOrphanLockFiles(boolean deleteOrphanLockFiles) {
+            // noop
+        }
+
+        public int getCounter() {
+            return counter;
+        }
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.file;
 
+import java.nio.channels.FileChannel;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.builder.RouteBuilder;
@@ -41,6 +43,34 @@ public class FileProduceAppendTest extends ContextTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testAppendFile() throws Exception {
+        template.sendBodyAndHeader(fileUri(), "Hello", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri(), " World", Exchange.FILE_NAME, "world.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedFileExists(testFile("hello.txt"), "Hello World");
+
+        template.sendBody("direct:start", testFile("world.txt").toFile());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAppendFileChannel() throws Exception {
+        template.sendBodyAndHeader(fileUri(), "Hello", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri(), " World", Exchange.FILE_NAME, "world.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedFileExists(testFile("hello.txt"), "Hello World");
+
+        template.sendBody("direct:start", FileChannel.open(testFile("world.txt")));
+
+        assertMockEndpointsSatisfied();
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaBatchSizeShutdownTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testShutdownWithHalfProcessedBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMinimumMessageCount(1);
+        mock.message(0).body().isEqualTo("Message 0");
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:foo", "Message " + i);
+        }
+        context.getRouteController().startRoute("foo");
+
+        // the first message is polled and the others are drained, and the 2nd message is now being processed
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        SedaEndpoint endpoint = context.getEndpoint("seda:foo", SedaEndpoint.class);
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("foo").getConsumer();
+        assertEquals(0, endpoint.getQueue().size());
+        // the drained messages which are not processed yet are still pending
+        assertEquals(8, consumer.getPendingExchangesSize());
+
+        // force the shutdown while the batch is being processed
+        context.getRouteController().stopRoute("foo", 1, TimeUnit.SECONDS);
+
+        assertMockEndpointsSatisfied();
+        // and the messages not processed are put back on the queue in the same order
+        await().atMost(5, TimeUnit.SECONDS).until(() -> endpoint.getQueue().size() == 8);
+        assertEquals("Message 2", endpoint.getQueue().peek().getIn().getBody());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?batchSize=10").routeId("foo").autoStartup(false)
+                        .process(exchange -> {
+                            if ("Message 1".equals(exchange.getIn().getBody())) {
+                                latch.countDown();
+                                // keep processing until the shutdown has been forced
+                                Thread.sleep(5000);
+                            }
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
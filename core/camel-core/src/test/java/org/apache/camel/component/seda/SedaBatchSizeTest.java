@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SedaBatchSizeTest extends ContextTestSupport {
+
+    @Test
+    public void testBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        Object[] bodies = new Object[25];
+        for (int i = 0; i < bodies.length; i++) {
+            bodies[i] = "Message " + i;
+        }
+        mock.expectedBodiesReceived(bodies);
+
+        // fill up the queue before the consumer is started so it drains in batches
+        for (Object body : bodies) {
+            template.sendBody("seda:foo", body);
+        }
+        SedaEndpoint endpoint = context.getEndpoint("seda:foo", SedaEndpoint.class);
+        assertEquals(25, endpoint.getQueue().size());
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, endpoint.getQueue().size());
+    }
+
+    @Test
+    public void testBatchSizeInOut() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Bye " + i, template.requestBody("seda:bar", "" + i));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?batchSize=10").routeId("foo").autoStartup(false)
+                        .to("mock:result");
+
+                from("seda:bar?batchSize=5")
+                        .transform(body().prepend("Bye "));
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaRingBufferQueueTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        RingBufferBlockingQueueFactory<Exchange> factory = new RingBufferBlockingQueueFactory<>();
+        factory.setWaitStrategy(RingBufferWaitStrategy.Yield);
+        context.getRegistry().bind("ringBufferQueueFactory", factory);
+        return context;
+    }
+
+    @Test
+    public void testRingBufferQueue() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertEquals(4, queue.getCapacity());
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        assertTrue(queue.offer("D"));
+        assertFalse(queue.offer("E"));
+        assertFalse(queue.offer("E", 10, TimeUnit.MILLISECONDS));
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("A", queue.peek());
+        assertEquals(List.of("A", "B", "C", "D"), new ArrayList<>(queue));
+
+        assertEquals("A", queue.poll());
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals(List.of("B", "C"), drained);
+        assertEquals("D", queue.take());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(4);
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+
+        assertTrue(queue.remove("A"));
+        assertTrue(queue.remove("C"));
+        assertFalse(queue.remove("C"));
+        assertFalse(queue.remove("D"));
+        assertEquals(List.of("B"), new ArrayList<>(queue));
+
+        // the removed elements are skipped
+        assertEquals("B", queue.peek());
+        assertEquals("B", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+
+        // the slots of the removed elements are released
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer("Message " + i));
+        }
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    public void testSendToRingBufferQueue() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            final int index = i;
+            executor.submit(() -> template.sendBody("seda:foo?blockWhenFull=true", "Message " + index));
+        }
+
+        assertMockEndpointsSatisfied();
+        executor.shutdownNow();
+
+        SedaEndpoint endpoint = context.getEndpoint("seda:foo?blockWhenFull=true", SedaEndpoint.class);
+        assertEquals(0, endpoint.getCurrentQueueSize());
+        assertTrue(endpoint.getProducerBlockedCount() > 0, "Producers should have been blocked on the small queue");
+        assertTrue(endpoint.getProducerBlockedTotalTime() >= endpoint.getProducerBlockedMaxTime());
+
+        assertEquals(1000, endpoint.getProducerOfferCount());
+        assertTrue(endpoint.getProducerOfferMaxTime() >= endpoint.getProducerOfferMeanTime());
+
+        endpoint.resetProducerBlockedStatistics();
+        assertEquals(0, endpoint.getProducerBlockedCount());
+        endpoint.resetProducerOfferStatistics();
+        assertEquals(0, endpoint.getProducerOfferCount());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?queueFactory=#ringBufferQueueFactory&size=8&blockWhenFull=true&concurrentConsumers=2")
+                        .delay(1)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SedaThreadPoolProfileTest extends ContextTestSupport {
+
+    private final CyclicBarrier barrier = new CyclicBarrier(2);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("myProfile").poolSize(1).maxPoolSize(1).build();
+        context.getExecutorServiceManager().registerThreadPoolProfile(profile);
+        return context;
+    }
+
+    @Test
+    public void testThreadPoolProfile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B");
+
+        template.sendBody("seda:foo", "A");
+        template.sendBody("seda:foo", "B");
+
+        assertMockEndpointsSatisfied();
+
+        // the consumers run in parallel, but the registered profile is not changed
+        ThreadPoolProfile profile = context.getExecutorServiceManager().getThreadPoolProfile("myProfile");
+        assertEquals(1, profile.getPoolSize().intValue());
+        assertEquals(1, profile.getMaxPoolSize().intValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?concurrentConsumers=2&threadPoolProfile=myProfile")
+                        // both messages must be processed at the same time by the two consumers
+                        .process(e -> barrier.await(5, TimeUnit.SECONDS))
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapCachedOutputStreamTest extends ContextTestSupport {
+    private static final String TEST_STRING = "This is a test string and it has enough"
+                                              + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeapMaxSize(1024);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private static String toString(InputStream input) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] buf = new byte[7];
+        int len;
+        while ((len = input.read(buf)) != -1) {
+            bos.write(buf, 0, len);
+        }
+        return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        assertEquals(0, file.list().length, "we should not have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof OffHeapInputStreamCache, "Should get the OffHeapInputStreamCache");
+        assertFalse(cache.inMemory());
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, toString((InputStream) cache));
+
+        // can be read again after reset
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING, new String(bos.toByteArray(), StandardCharsets.UTF_8));
+
+        // a copy is independent of the original
+        StreamCache copy = cache.copy(exchange);
+        assertEquals(TEST_STRING, toString((InputStream) copy));
+
+        exchange.getUnitOfWork().done(exchange);
+
+        // the memory is released back to the pool when the exchange is done
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+        cos.close();
+    }
+
+    @Test
+    public void testCacheStreamOffHeapOverflowToFile() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        assertEquals(0, file.list().length, "we should not have a temp file");
+
+        // exceeds the off-heap max size so it overflows to disk
+        StringBuilder sb = new StringBuilder(TEST_STRING);
+        for (int i = 0; i < 20; i++) {
+            cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+            sb.append(TEST_STRING);
+        }
+        assertEquals(1, file.list().length, "we should have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertEquals(sb.toString(), toString((InputStream) cache));
+
+        ((InputStream) cache).close();
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, file.list().length, "we should not have a temp file");
+        cos.close();
+    }
+
+    @Test
+    public void testReleaseOnlyOnce() throws Exception {
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        // room for a single segment
+        strategy.setSpoolOffHeapPoolSize(1024 * 1024);
+        context.start();
+
+        OffHeapOutputStream out = new OffHeapOutputStream(strategy);
+        assertTrue(out.ensureCapacity(TEST_STRING.length()));
+        out.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        InputStream cache = new OffHeapInputStreamCache(out, null);
+        assertEquals('T', cache.read());
+
+        // releasing twice must only put the segment back in the pool once
+        out.release();
+        out.release();
+        assertThrows(IOException.class, cache::read);
+        assertNotNull(strategy.acquireOffHeapSegment());
+        assertNull(strategy.acquireOffHeapSegment());
+    }
+
+    @Test
+    public void testPoolSizeAfterRestart() throws Exception {
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        // room for two segments
+        strategy.setSpoolOffHeapPoolSize(2 * 1024 * 1024);
+        context.start();
+
+        ByteBuffer first = strategy.acquireOffHeapSegment();
+        ByteBuffer second = strategy.acquireOffHeapSegment();
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(strategy.acquireOffHeapSegment());
+
+        // the segments are still in use when restarting, and released afterwards
+        context.stop();
+        context.start();
+        strategy.releaseOffHeapSegment(first);
+        strategy.releaseOffHeapSegment(second);
+
+        // so the pool must not have room for more than two segments
+        assertNotNull(strategy.acquireOffHeapSegment());
+        assertNotNull(strategy.acquireOffHeapSegment());
+        assertNull(strategy.acquireOffHeapSegment());
+    }
+
+}
@@ -25,6 +25,7 @@ import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -553,4 +554,79 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(pool.isTerminated());
     }
 
+    @Test
+    public void testVirtualThreads() throws Exception {
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(1);
+        foo.setMaxPoolSize(1);
+        foo.setVirtualThreads(true);
+
+        context.getExecutorServiceManager().registerThreadPoolProfile(foo);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "foo");
+        assertNotNull(pool);
+
+        final CountDownLatch latch = new CountDownLatch(2);
+        final String[] names = new String[2];
+        for (int i = 0; i < 2; i++) {
+            final int index = i;
+            pool.execute(() -> {
+                names[index] = Thread.currentThread().getName();
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(names[0].endsWith("Cool"));
+        assertTrue(names[1].endsWith("Cool"));
+
+        if (VirtualThreadHelper.isVirtualThreadsSupported()) {
+            // a new virtual thread per task
+            assertFalse(pool instanceof ThreadPoolExecutor);
+            assertNotEquals(names[0], names[1]);
+        } else {
+            // fallback to a regular thread pool
+            ThreadPoolExecutor executor = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+            assertEquals(1, executor.getMaximumPoolSize());
+        }
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
+    @Test
+    public void testVirtualThreadsNotInherited() throws Exception {
+        context.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+
+        ThreadPoolProfile bar = new ThreadPoolProfile("bar");
+        bar.setPoolSize(2);
+        bar.setMaxPoolSize(2);
+        context.getExecutorServiceManager().registerThreadPoolProfile(bar);
+
+        // custom profiles, fixed and single threaded pools use regular threads
+        ExecutorService custom = context.getExecutorServiceManager().newThreadPool(this, "Custom", "bar");
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, custom);
+        assertEquals(2, tp.getMaximumPoolSize());
+        assertNull(bar.getVirtualThreads());
+
+        ExecutorService fixed = context.getExecutorServiceManager().newFixedThreadPool(this, "Fixed", 5);
+        tp = assertIsInstanceOf(ThreadPoolExecutor.class, fixed);
+        assertEquals(5, tp.getMaximumPoolSize());
+
+        ExecutorService single = context.getExecutorServiceManager().newSingleThreadExecutor(this, "Single");
+        tp = assertIsInstanceOf(ThreadPoolExecutor.class, single);
+        assertEquals(1, tp.getMaximumPoolSize());
+
+        // the default profile itself is explicit configured
+        ExecutorService pool = context.getExecutorServiceManager().newDefaultThreadPool(this, "Default");
+        if (VirtualThreadHelper.isVirtualThreadsSupported()) {
+            assertFalse(pool instanceof ThreadPoolExecutor);
+        } else {
+            assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        }
+
+        context.getExecutorServiceManager().shutdown(custom);
+        context.getExecutorServiceManager().shutdown(fixed);
+        context.getExecutorServiceManager().shutdown(single);
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.impl;
 
+import java.util.List;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.builder.RouteBuilder;
@@ -50,6 +52,12 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         Long miss = reg.getStatistics().getMissCounter();
         assertEquals(0, miss.intValue());
 
+        // should have statistics about the conversions from String to int
+        TypeConverterRegistry.ConversionStatistic stat = findConversion(reg, String.class, int.class);
+        assertNotNull(stat, "Should have conversion from String to int");
+        assertEquals(2, stat.getCounter());
+        assertTrue(stat.getTotalTime() > 0, "Should have time spent converting");
+
         try {
             template.sendBody("direct:start", "foo");
             fail("Should have thrown exception");
@@ -70,6 +78,18 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         assertEquals(0, failed.intValue());
         miss = reg.getStatistics().getMissCounter();
         assertEquals(0, miss.intValue());
+        assertNull(findConversion(reg, String.class, int.class), "Should have reset conversion statistics");
+    }
+
+    private static TypeConverterRegistry.ConversionStatistic findConversion(
+            TypeConverterRegistry reg, Class<?> from, Class<?> to) {
+        List<TypeConverterRegistry.ConversionStatistic> stats = reg.getStatistics().getConversionStatistics();
+        for (TypeConverterRegistry.ConversionStatistic stat : stats) {
+            if (stat.getFromType() == from && stat.getToType() == to) {
+                return stat;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.lang.reflect.Array;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TypeConversionCacheTest {
+
+    @Test
+    public void testGetOrCreate() {
+        TypeConversionCache cache = new TypeConversionCache();
+        assertNull(cache.get(Integer.class, String.class));
+
+        TypeConversionCache.Conversion conversion = cache.getOrCreate(Integer.class, String.class);
+        assertSame(conversion, cache.get(Integer.class, String.class));
+        assertSame(Integer.class, conversion.getToType());
+        assertSame(String.class, conversion.getFromType());
+
+        // the reverse pair is another conversion
+        assertNull(cache.get(String.class, Integer.class));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        TypeConversionCache cache = new TypeConversionCache();
+        TypeConversionCache.Conversion conversion = cache.getOrCreate(Integer.class, String.class);
+
+        // no converter is also resolved
+        conversion.setConverter(cache.getGeneration(), null);
+        assertNotNull(conversion.getResolved(cache.getGeneration()));
+
+        cache.invalidate();
+        assertNull(conversion.getResolved(cache.getGeneration()));
+        // the conversion is kept
+        assertSame(conversion, cache.get(Integer.class, String.class));
+
+        cache.clear();
+        assertNull(cache.get(Integer.class, String.class));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testMaxConversions() {
+        // array types of increasing dimensions gives many types to convert between
+        Class<?>[] types = new Class<?>[100];
+        types[0] = int.class;
+        for (int i = 1; i < types.length; i++) {
+            types[i] = Array.newInstance(types[i - 1], 0).getClass();
+        }
+
+        TypeConversionCache cache = new TypeConversionCache();
+        for (Class<?> toType : types) {
+            for (Class<?> fromType : types) {
+                TypeConversionCache.Conversion conversion = cache.getOrCreate(toType, fromType);
+                if (conversion != null) {
+                    assertSame(conversion, cache.get(toType, fromType));
+                }
+            }
+        }
+        assertEquals(TypeConversionCache.MAX_CONVERSIONS, cache.size());
+        assertNull(cache.getOrCreate(types[99], types[99]));
+        assertNotNull(cache.get(types[0], types[0]));
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        executor.setStatisticsEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testSplitParallel() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(100);
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            sb.append("A").append(i).append(",B").append(i).append(",C").append(i).append(",D").append(i)
+                    .append(",E").append(i).append(",F").append(i).append(",G").append(i).append(",H").append(i)
+                    .append(",I").append(i).append(",J").append(i).append(",");
+        }
+        String body = sb.toString();
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:start", body.substring(i * 30, (i + 1) * 30));
+        }
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(executor.getCreatedWorkers() > 0);
+        assertEquals(0, executor.getPendingTasks());
+    }
+
+    @Test
+    public void testStealFromBusyWorker() throws Exception {
+        WorkStealingReactiveExecutor stealing = new WorkStealingReactiveExecutor();
+        stealing.setStatisticsEnabled(true);
+
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch stolen = new CountDownLatch(1);
+        AtomicReference<Thread> ranBy = new AtomicReference<>();
+
+        // the owner queues a task and then stays busy until the task has been run by another thread
+        Thread owner = new Thread(() -> stealing.schedule(() -> {
+            stealing.schedule(() -> {
+                ranBy.set(Thread.currentThread());
+                stolen.countDown();
+            });
+            busy.countDown();
+            try {
+                stolen.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), "owner");
+        owner.start();
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+
+        // an idle thread (such as waiting for an async callback) steals the queued task
+        assertTrue(stealing.executeFromQueue(), "Should steal the task");
+        assertTrue(stolen.await(5, TimeUnit.SECONDS));
+        owner.join(5000);
+
+        assertNotSame(owner, ranBy.get());
+        assertEquals(Thread.currentThread(), ranBy.get());
+        assertEquals(1, stealing.getStolenTasks());
+        assertEquals(0, stealing.getPendingTasks());
+        assertEquals(1, stealing.getMaxQueueDepth());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=4")
+                        .split(body().tokenize(",")).parallelProcessing()
+                            .to("mock:line")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.csimple.CSimpleLanguage;
+import org.apache.camel.language.csimple.HighPredicate;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleTieredCompilationTest extends ContextTestSupport {
+
+    private SimpleLanguage simple;
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        // use pre compiled csimple as the csimple compiler is not on the classpath
+        jndi.bind("csimple", CSimpleLanguage.builder().expression(new HighPredicate()).build());
+        return jndi;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        // the language is already started when the threshold is set
+        simple = (SimpleLanguage) context.resolveLanguage("simple");
+        simple.setCompileThreshold(5);
+    }
+
+    @Test
+    public void testCompileHotPredicate() throws Exception {
+        Predicate predicate = simple.createPredicate("${body} > 10");
+        assertTrue(predicate instanceof TieredSimpleExpression);
+        TieredSimpleExpression tiered = (TieredSimpleExpression) predicate;
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(predicate.matches(createExchange(5)));
+            assertTrue(predicate.matches(createExchange(15)));
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(tiered::isCompiled);
+
+        // the compiled predicate gives the same results
+        assertFalse(predicate.matches(createExchange(5)));
+        assertTrue(predicate.matches(createExchange(15)));
+    }
+
+    @Test
+    public void testFallbackToInterpreter() throws Exception {
+        Expression expression = simple.createExpression("Hello ${body}");
+        TieredSimpleExpression tiered = (TieredSimpleExpression) expression;
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Hello World", expression.evaluate(createExchange("World"), String.class));
+        }
+
+        // the expression cannot be compiled so it should still be interpreted
+        await().pollDelay(200, TimeUnit.MILLISECONDS).atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertFalse(tiered.isCompiled()));
+        assertEquals("Hello Camel", expression.evaluate(createExchange("Camel"), String.class));
+    }
+
+    @Test
+    public void testNoSimpleFunction() throws Exception {
+        // plain text is not worth compiling
+        Expression expression = simple.createExpression("Hello World");
+        assertFalse(expression instanceof TieredSimpleExpression);
+    }
+
+    private Exchange createExchange(Object body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        return exchange;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.processor.idempotent.ConcurrentMemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentMemoryIdempotentRepositoryTest extends ContextTestSupport {
+
+    private ConcurrentMemoryIdempotentRepository repo = new ConcurrentMemoryIdempotentRepository(100);
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(3, repo.getCacheSize());
+        assertEquals(3, repo.getHitCount());
+        assertEquals(3, repo.getMissCount());
+    }
+
+    @Test
+    public void testMaximumSize() throws Exception {
+        ConcurrentMemoryIdempotentRepository small = new ConcurrentMemoryIdempotentRepository(4);
+        small.setConcurrencyLevel(1);
+        small.start();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(small.add("key" + i));
+        }
+        assertEquals(4, small.getCacheSize());
+        assertEquals(6, small.getEvictionCount());
+        assertFalse(small.contains("key0"));
+        assertTrue(small.contains("key9"));
+
+        small.stop();
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        ConcurrentMemoryIdempotentRepository expiring = new ConcurrentMemoryIdempotentRepository(100, 50);
+        expiring.start();
+
+        assertTrue(expiring.add("foo"));
+        assertFalse(expiring.add("foo"));
+        assertTrue(expiring.contains("foo"));
+
+        Thread.sleep(100);
+
+        assertFalse(expiring.contains("foo"));
+        assertTrue(expiring.add("foo"));
+        assertEquals(1, expiring.getExpiredCount());
+
+        expiring.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .idempotentConsumer(header("messageId"), repo)
+                        .to("mock:result");
+            }
+        };
+    }
+}
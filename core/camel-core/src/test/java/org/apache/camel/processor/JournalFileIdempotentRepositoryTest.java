@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.JournalFileIdempotentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournalFileIdempotentRepositoryTest extends ContextTestSupport {
+
+    private File store = testFile("idempotentjournal.dat").toFile();
+    private JournalFileIdempotentRepository repo;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        // delete file store before testing
+        if (store.exists()) {
+            store.delete();
+        }
+        repo = new JournalFileIdempotentRepository(store);
+        repo.setSyncInterval(0);
+
+        super.setUp();
+    }
+
+    @Test
+    public void testJournal() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Foo", "Bar");
+
+        template.sendBodyAndHeader("direct:start", "Foo", "messageId", "A");
+        template.sendBodyAndHeader("direct:start", "Camel rocks", "messageId", "A");
+        template.sendBodyAndHeader("direct:start", "Bar", "messageId", "B");
+
+        assertMockEndpointsSatisfied();
+
+        // removing a key appends a tombstone instead of rewriting the file
+        repo.remove("A");
+
+        String data = context.getTypeConverter().convertTo(String.class, store);
+        assertEquals("+A\n+B\n-A\n", data);
+        assertEquals(1, repo.getTombstoneCount());
+
+        repo.compact();
+
+        data = context.getTypeConverter().convertTo(String.class, store);
+        assertEquals("+B\n", data);
+        assertEquals(0, repo.getTombstoneCount());
+        assertEquals(1, repo.getCompactionCount());
+
+        // appending continues on the compacted file
+        template.sendBodyAndHeader("direct:start", "Camel rocks", "messageId", "A");
+
+        data = context.getTypeConverter().convertTo(String.class, store);
+        assertEquals("+B\n+A\n", data);
+    }
+
+    @Test
+    public void testReload() throws Exception {
+        repo.add("A");
+        repo.add("B");
+        repo.add("C");
+        repo.remove("B");
+        repo.stop();
+
+        JournalFileIdempotentRepository reloaded = new JournalFileIdempotentRepository(store);
+        reloaded.start();
+
+        assertEquals(2, reloaded.getCacheSize());
+        assertTrue(reloaded.contains("A"));
+        assertFalse(reloaded.contains("B"));
+        assertTrue(reloaded.contains("C"));
+
+        reloaded.stop();
+    }
+
+    @Test
+    public void testReloadTornRecord() throws Exception {
+        repo.stop();
+
+        // simulate a crash while appending the last record
+        Files.write(store.toPath(), "+A\n+B\n+ke".getBytes(StandardCharsets.UTF_8));
+
+        JournalFileIdempotentRepository reloaded = new JournalFileIdempotentRepository(store);
+        reloaded.setSyncInterval(0);
+        reloaded.start();
+
+        assertEquals(2, reloaded.getCacheSize());
+        assertTrue(reloaded.contains("A"));
+        assertTrue(reloaded.contains("B"));
+        assertFalse(reloaded.contains("ke"));
+
+        // the torn record is discarded so the next record starts on its own line
+        reloaded.add("C");
+
+        String data = context.getTypeConverter().convertTo(String.class, store);
+        assertEquals("+A\n+B\n+C\n", data);
+
+        reloaded.stop();
+    }
+
+    @Test
+    public void testMaxEntries() throws Exception {
+        repo.setMaxEntries(2);
+
+        repo.add("A");
+        repo.add("B");
+        repo.add("C");
+        repo.add("D");
+
+        assertEquals(2, repo.getCacheSize());
+        assertFalse(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+
+        assertEquals(2, repo.getTombstoneCount());
+
+        repo.compact();
+
+        String data = context.getTypeConverter().convertTo(String.class, store);
+        assertEquals("+C\n+D\n", data);
+    }
+
+    @Test
+    public void testBackgroundCompaction() throws Exception {
+        JournalFileIdempotentRepository background = new JournalFileIdempotentRepository(store);
+        background.setCamelContext(context);
+        background.setCompactionThreshold(5);
+        background.start();
+
+        for (int i = 0; i < 20; i++) {
+            background.add("Key " + i);
+        }
+        for (int i = 0; i < 20; i++) {
+            background.remove("Key " + i);
+        }
+
+        // a compaction is only scheduled (and run) when the threshold has been reached
+        await().atMost(5, TimeUnit.SECONDS).until(() -> background.getTombstoneCount() < 5);
+        assertTrue(background.getCompactionCount() >= 1);
+        assertTrue(background.getCompactionCount() <= 4, "Should compact at most once per threshold of tombstones");
+
+        background.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultConsumer;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledExchangeLeakTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        PooledExchangeFactory pef = new PooledExchangeFactory();
+        pef.setStatisticsEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(pef);
+        return context;
+    }
+
+    @Test
+    public void testInUse() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        context.getRouteController().startAllRoutes();
+
+        assertMockEndpointsSatisfied();
+
+        ExchangeFactory factory = context.adapt(ExtendedCamelContext.class).getExchangeFactoryManager()
+                .getExchangeFactories().iterator().next();
+
+        // all the exchanges has been released back to the pool
+        await().atMost(2, TimeUnit.SECONDS).until(() -> factory.getInUse().isEmpty());
+
+        // create an exchange which is not released (leak)
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("foo").getConsumer();
+        Exchange leak = consumer.createExchange(false);
+        leak.adapt(ExtendedExchange.class).setHistoryNodeId("myNode");
+
+        assertEquals(1, factory.getInUse().size());
+        Exchange inUse = factory.getInUse().iterator().next();
+        assertSame(leak, inUse);
+        assertEquals("foo", inUse.getFromRouteId());
+        assertEquals("myNode", inUse.adapt(ExtendedExchange.class).getHistoryNodeId());
+
+        // and release it
+        consumer.releaseExchange(leak, false);
+        assertTrue(factory.getInUse().isEmpty(), "Should not have exchanges in use");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:foo?period=1&delay=1&repeatCount=2").routeId("foo").noAutoStartup()
+                        .to("mock:result");
+            }
+        };
+    }
+}
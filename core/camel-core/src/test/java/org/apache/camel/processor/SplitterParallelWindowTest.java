@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.StringAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelWindowTest extends ContextTestSupport {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testParallelWindow() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(20);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:window", "0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxInflight.get() <= 2, "Should at most process 2 messages at the same time, was: " + maxInflight.get());
+    }
+
+    @Test
+    public void testStreamingOrdered() throws Exception {
+        getMockEndpoint("mock:ordered").expectedBodiesReceived("54321");
+
+        template.sendBody("direct:ordered", "5,4,3,2,1");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:window")
+                    .split(body().tokenize(","), new StringAggregationStrategy())
+                        .streaming().parallelProcessing().parallelWindowSize(2)
+                        .process(e -> maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max))
+                        .delay(10)
+                        .process(e -> inflight.decrementAndGet())
+                        .to("mock:split")
+                    .end()
+                    .to("mock:result");
+
+                from("direct:ordered")
+                    .split(body().tokenize(","), new StringAggregationStrategy())
+                        .streaming().streamingOrdered().parallelProcessing()
+                        // the first messages are the slowest so they complete last
+                        .delay(simple("${body} * 20"))
+                    .end()
+                    .to("mock:ordered");
+            }
+        };
+    }
+
+}
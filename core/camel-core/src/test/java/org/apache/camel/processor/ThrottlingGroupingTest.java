@@ -20,13 +20,21 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.builder.ExpressionBuilder;
 import org.junit.jupiter.api.Test;
 
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ThrottlingGroupingTest extends ContextTestSupport {
@@ -162,6 +170,32 @@ public class ThrottlingGroupingTest extends ContextTestSupport {
         }
     }
 
+    @Test
+    public void testIdleCorrelationKeysAreEvicted() throws Exception {
+        ScheduledExecutorService executor = context.getExecutorServiceManager().newScheduledThreadPool(this, "Throttle", 1);
+        Expression max = ExpressionBuilder.headerExpression("max");
+        max.init(context);
+        Expression key = ExpressionBuilder.headerExpression("key");
+        key.init(context);
+        Throttler throttler = new Throttler(context, max, 50, executor, true, false, key);
+        throttler.start();
+        try {
+            for (int i = 0; i < 100; i++) {
+                Exchange exchange = new DefaultExchange(context);
+                exchange.getIn().setHeader("max", 5);
+                exchange.getIn().setHeader("key", "key" + i);
+                throttler.process(exchange);
+                assertNull(exchange.getException());
+            }
+            assertEquals(5, throttler.getCurrentMaximumRequestsPerPeriod());
+
+            // the state of the idle keys is evicted after 10 time periods
+            await().atMost(5, TimeUnit.SECONDS).until(() -> throttler.getCurrentMaximumRequestsPerPeriod() == 0);
+        } finally {
+            throttler.shutdown();
+        }
+    }
+
     private long calculateMinimum(final long periodMs, final long throttleRate, final long messageCount) {
         if (messageCount % throttleRate > 0) {
             return (long) Math.floor((double) messageCount / (double) throttleRate) * periodMs;
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.SendProcessor;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.apache.camel.processor.aggregate.AggregateProcessorStatistics;
+import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AggregateShardsTest extends ContextTestSupport {
+
+    @Test
+    public void testAggregateShardsTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceivedInAnyOrder("A0+B0", "A1+B1", "A2+B2", "A3+B3", "A4+B4", "A5+B5");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBodyAndHeader("direct:start", "A" + i, "id", i);
+        }
+        for (int i = 0; i < 6; i++) {
+            template.sendBodyAndHeader("direct:start", "B" + i, "id", i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateShardsStatistics() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(8);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AsyncProcessor done = new SendProcessor(context.getEndpoint("mock:result"));
+        AggregateProcessor ap
+                = new AggregateProcessor(context, done, header("id"), new BodyInAggregatingStrategy(), executorService, true);
+        ap.setCompletionSize(2);
+        ap.setShards(4);
+        ap.start();
+
+        for (int i = 0; i < 16; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("Message " + i);
+            exchange.getIn().setHeader("id", i % 8);
+            ap.process(exchange);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        AggregateProcessorStatistics statistics = ap.getStatistics();
+        assertEquals(4, statistics.getShards());
+        long in = 0;
+        long completed = 0;
+        for (int i = 0; i < statistics.getShards(); i++) {
+            in += statistics.getShardTotalIn(i);
+            completed += statistics.getShardTotalCompleted(i);
+            assertEquals(0, statistics.getShardPendingTimeouts(i));
+        }
+        assertEquals(16, in);
+        assertEquals(8, completed);
+        assertEquals(statistics.getTotalIn(), in);
+        assertEquals(statistics.getTotalCompleted(), completed);
+
+        ap.stop();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testAggregateShardsConcurrentCompleteAllGroups() throws Exception {
+        AtomicInteger aggregated = new AtomicInteger();
+        AsyncProcessor done = AsyncProcessorConverterHelper
+                .convert(e -> aggregated.addAndGet(e.getProperty(Exchange.AGGREGATED_SIZE, Integer.class)));
+
+        // every 10th message completes all the groups
+        BodyInAggregatingStrategy strategy = new BodyInAggregatingStrategy() {
+            @Override
+            public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+                Exchange answer = super.aggregate(oldExchange, newExchange);
+                if (newExchange.getIn().getHeader("count", Integer.class) % 10 == 0) {
+                    answer.setProperty(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+                }
+                return answer;
+            }
+        };
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AggregateProcessor ap = new AggregateProcessor(context, done, header("id"), strategy, executorService, true);
+        ap.setCompletionSize(1000);
+        ap.setShards(4);
+        ap.start();
+
+        ExecutorService senders = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            senders.submit(() -> {
+                for (int i = 1; i <= 250; i++) {
+                    Exchange exchange = new DefaultExchange(context);
+                    exchange.getIn().setBody("Message " + i);
+                    exchange.getIn().setHeader("id", i % 20);
+                    exchange.getIn().setHeader("count", i);
+                    ap.process(exchange);
+                }
+                return null;
+            });
+        }
+        senders.shutdown();
+        assertTrue(senders.awaitTermination(20, TimeUnit.SECONDS), "Should not deadlock");
+
+        // complete the remaining groups, then every message has been aggregated exactly once
+        ap.forceCompletionOfAllGroups();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> aggregated.get() == 1000);
+
+        ap.stop();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testAggregateShardsCompletionOnNewCorrelationGroupNotAllowed() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AsyncProcessor done = new SendProcessor(context.getEndpoint("mock:result"));
+        AggregateProcessor ap
+                = new AggregateProcessor(context, done, header("id"), new BodyInAggregatingStrategy(), executorService, true);
+        ap.setCompletionOnNewCorrelationGroup(true);
+        ap.setShards(4);
+
+        assertThrows(IllegalArgumentException.class, ap::start);
+
+        executorService.shutdownNow();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).shards(4)
+                        .completionTimeout(100).completionTimeoutCheckerInterval(10)
+                        .to("mock:aggregated");
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.io.File;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.processor.aggregate.MappedFileAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedFileAggregationRepositoryTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private MappedFileAggregationRepository createRepository() {
+        MappedFileAggregationRepository repo = new MappedFileAggregationRepository(testDirectory().toFile());
+        repo.setSegmentSize(4096);
+        repo.start();
+        return repo;
+    }
+
+    private Exchange createExchange(Object body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        return exchange;
+    }
+
+    @Test
+    public void testOperations() {
+        MappedFileAggregationRepository repo = createRepository();
+        repo.setReturnOldExchange(true);
+
+        assertNull(repo.get(context, "missing"));
+
+        assertNull(repo.add(context, "foo", createExchange("counter:1")));
+        assertEquals("counter:1", repo.get(context, "foo").getIn().getBody());
+
+        Exchange old = repo.add(context, "foo", createExchange("counter:2"));
+        assertEquals("counter:1", old.getIn().getBody());
+
+        Exchange actual = repo.get(context, "foo");
+        assertEquals("counter:2", actual.getIn().getBody());
+        assertEquals(1, repo.getKeys().size());
+
+        // removing moves it to completed until confirmed
+        repo.remove(context, "foo", actual);
+        assertNull(repo.get(context, "foo"));
+        assertTrue(repo.scan(context).contains(actual.getExchangeId()));
+        assertEquals("counter:2", repo.recover(context, actual.getExchangeId()).getIn().getBody());
+
+        repo.confirm(context, actual.getExchangeId());
+        assertTrue(repo.scan(context).isEmpty());
+        assertNull(repo.recover(context, actual.getExchangeId()));
+
+        repo.stop();
+    }
+
+    @Test
+    public void testRestart() {
+        MappedFileAggregationRepository repo = createRepository();
+        for (int i = 0; i < 100; i++) {
+            repo.add(context, "key" + (i % 5), createExchange("Message " + i));
+        }
+        Exchange completed = repo.get(context, "key0");
+        repo.remove(context, "key0", completed);
+        repo.stop();
+
+        repo = createRepository();
+        assertEquals(4, repo.getKeys().size());
+        assertEquals("Message 99", repo.get(context, "key4").getIn().getBody());
+        assertEquals("Message 95", repo.recover(context, completed.getExchangeId()).getIn().getBody());
+        repo.stop();
+    }
+
+    @Test
+    public void testRecoverAfterCrash() {
+        MappedFileAggregationRepository repo = createRepository();
+        for (int i = 0; i < 100; i++) {
+            repo.add(context, "key" + (i % 5), createExchange("Message " + i));
+        }
+        Exchange completed = repo.get(context, "key0");
+        repo.remove(context, "key0", completed);
+
+        // open another repository on the same directory without stopping the first, as if the JVM crashed
+        MappedFileAggregationRepository recovered = createRepository();
+        assertEquals(4, recovered.getKeys().size());
+        assertEquals("Message 98", recovered.get(context, "key3").getIn().getBody());
+        assertTrue(recovered.scan(context).contains(completed.getExchangeId()));
+        recovered.stop();
+    }
+
+    @Test
+    public void testDeleteSegmentsWithoutLiveRecords() {
+        MappedFileAggregationRepository repo = createRepository();
+        for (int i = 0; i < 500; i++) {
+            Exchange exchange = createExchange("Message " + i);
+            repo.add(context, "key", exchange);
+            repo.remove(context, "key", exchange);
+            repo.confirm(context, exchange.getExchangeId());
+        }
+        File[] segments = testDirectory().toFile().listFiles((dir, name) -> name.endsWith(".log"));
+        assertTrue(segments.length <= 2, "Should delete the segments without live records");
+        repo.stop();
+    }
+}
@@ -191,4 +191,151 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testTimingWheelExpiredInCorrectOrder() throws Exception {
+        final List<String> keys = new ArrayList<>();
+        final long[] now = { 1000 };
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<String, Integer>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return now[0];
+            }
+        };
+        map.setTimingWheel(true);
+        // use a small wheel so entries must survive several rounds
+        map.setTicksPerWheel(4);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        map.put("A", 1, 5000);
+        map.put("B", 2, 300);
+        map.put("C", 3, 250);
+        map.put("D", 4, 1200);
+        map.put("E", 5, 2000);
+        map.put("F", 6, 2000);
+        // replaced and removed entries are not evicted
+        map.put("E", 7, 400);
+        map.remove("F");
+        assertEquals(5, map.size());
+
+        now[0] = 1500;
+        map.purge();
+        assertEquals(List.of("C", "B", "E"), keys);
+
+        // run the purge less often than once per round of the wheel
+        now[0] = 3000;
+        map.purge();
+        assertEquals(List.of("C", "B", "E", "D"), keys);
+        assertEquals(1, map.size());
+
+        for (now[0] = 3100; now[0] <= 6000; now[0] += 100) {
+            map.purge();
+        }
+        assertEquals(List.of("C", "B", "E", "D"), keys);
+
+        now[0] = 6100;
+        map.purge();
+        assertEquals(List.of("C", "B", "E", "D", "A"), keys);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelGetRemove() throws Exception {
+        final long[] now = { 1000 };
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<String, Integer>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return now[0];
+            }
+        };
+        map.setTimingWheel(true);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put("K" + i, i, 500);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(i, (int) map.remove("K" + i));
+        }
+        assertEquals(500, map.size());
+
+        // accessing an entry updates its expire time
+        now[0] = 1400;
+        assertEquals(1, (int) map.get("K1"));
+        map.purge();
+        assertEquals(500, map.size());
+
+        now[0] = 1600;
+        map.purge();
+        assertEquals(1, map.size());
+        assertEquals(1, (int) map.get("K1"));
+
+        now[0] = 2200;
+        map.purge();
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelPurge() throws Exception {
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 50);
+        map.setTimingWheel(true);
+        map.start();
+
+        map.put("A", 123, 50);
+        map.putIfAbsent("B", 456, 100);
+        assertEquals(2, map.size());
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+    @Test
+    public void testTimingWheelWithoutLock() throws Exception {
+        final long[] now = { 1000 };
+        final List<String> evicted = new ArrayList<>();
+
+        // the timing wheel has its own lock, so it can be used from many threads when locking is not enabled
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<String, Integer>(executor, 100, false) {
+            @Override
+            protected long currentTime() {
+                return now[0];
+            }
+        };
+        map.setTimingWheel(true);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                evicted.add(key);
+            }
+        });
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    map.put("K" + id + "-" + i, i, 500);
+                    if (i % 2 == 0) {
+                        map.remove("K" + id + "-" + i);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(2000, map.size());
+
+        now[0] = 2000;
+        map.purge();
+        assertEquals(0, map.size());
+        assertEquals(2000, evicted.size());
+    }
+
 }
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlatCaseInsensitiveMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new FlatCaseInsensitiveMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertTrue(map.containsKey("fOO"));
+
+        // the original key is kept
+        map.put("FOO", "cake");
+        assertEquals(1, map.size());
+        assertEquals("foo", map.keySet().iterator().next());
+        assertEquals("cake", map.get("foo"));
+    }
+
+    @Test
+    public void testManyHeaders() {
+        Map<String, Object> map = new FlatCaseInsensitiveMap();
+        for (int i = 0; i < 100; i++) {
+            map.put("Header" + i, i);
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, map.get("HEADER" + i));
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, map.remove("header" + i));
+        }
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get("Header" + i));
+        }
+
+        // re-adding after removing compacts the entries
+        for (int i = 0; i < 200; i++) {
+            map.put("Other" + i, i);
+            map.remove("Other" + i);
+        }
+        assertEquals(50, map.size());
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new FlatCaseInsensitiveMap();
+        map.put("B", 1);
+        map.put("A", 2);
+        map.put("C", 3);
+        map.remove("a");
+        map.put("D", 4);
+
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals(List.of("B", "C", "D"), keys);
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        Map<String, Object> map = new FlatCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> copy = new FlatCaseInsensitiveMap(map);
+        Map<String, Object> copy2 = new FlatCaseInsensitiveMap();
+        copy2.putAll(map);
+
+        copy.put("FOO", "cake");
+        copy.put("baz", true);
+        copy2.remove("bar");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals(2, map.size());
+        assertEquals("cake", copy.get("foo"));
+        assertEquals(3, copy.size());
+        assertNull(copy2.get("bar"));
+        assertEquals(1, copy2.size());
+
+        // changing the original does not affect the copies
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(3, copy.size());
+        assertEquals("cheese", copy2.get("foo"));
+    }
+
+    @Test
+    public void testIteratorCopyOnWrite() {
+        Map<String, Object> map = new FlatCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+        map.put("baz", true);
+
+        Map<String, Object> copy = new FlatCaseInsensitiveMap(map);
+        Iterator<Map.Entry<String, Object>> it = copy.entrySet().iterator();
+        it.next().setValue("cake");
+        it.next();
+        it.remove();
+
+        assertEquals(2, copy.size());
+        assertEquals("cake", copy.get("FOO"));
+        assertFalse(copy.containsKey("bar"));
+
+        assertEquals(3, map.size());
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals(123, map.get("bar"));
+    }
+
+    @Test
+    public void testEquals() {
+        Map<String, Object> map = new FlatCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> other = new HashMap<>();
+        other.put("foo", "cheese");
+        other.put("bar", 123);
+
+        assertEquals(other, map);
+        assertEquals(map, other);
+        assertEquals(other.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        FlatCaseInsensitiveMap map = new FlatCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+        map.remove("bar");
+        Map<String, Object> copy = new FlatCaseInsensitiveMap(map);
+
+        ByteArrayOutputStream bStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objStream = new ObjectOutputStream(bStream)) {
+            objStream.writeObject(map);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> deserialized = (Map<String, Object>) new ObjectInputStream(
+                new ByteArrayInputStream(bStream.toByteArray())).readObject();
+        assertEquals("cheese", deserialized.get("FOO"));
+        assertEquals(1, deserialized.size());
+
+        deserialized.put("bar", 456);
+        assertNull(copy.get("bar"));
+    }
+}
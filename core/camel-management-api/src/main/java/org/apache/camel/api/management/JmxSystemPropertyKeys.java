@@ -43,6 +43,9 @@ public final class JmxSystemPropertyKeys {
     // whether to enable gathering endpoint runtime statistics
     public static final String ENDPOINT_RUNTIME_STATISTICS_ENABLED = "org.apache.camel.jmx.endpointRuntimeStatisticsEnabled";
 
+    // whether to enable recording processing time histograms (percentiles)
+    public static final String PROCESSING_TIME_HISTOGRAM_ENABLED = "org.apache.camel.jmx.processingTimeHistogramEnabled";
+
     // the level of statistics enabled
     public static final String STATISTICS_LEVEL = "org.apache.camel.jmx.statisticsLevel";
 
@@ -80,6 +80,22 @@ public final class CamelOpenMBeanTypes {
                         SimpleType.LONG, SimpleType.LONG, SimpleType.LONG });
     }
 
+    public static TabularType listExchangeFactoryInUseTabularType() throws OpenDataException {
+        CompositeType ct = listExchangeFactoryInUseCompositeType();
+        return new TabularType(
+                "listExchangeFactoryInUse", "Lists the exchanges in use (not released back to the pool)", ct,
+                new String[] { "exchangeId" });
+    }
+
+    public static CompositeType listExchangeFactoryInUseCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "exchanges", "Exchanges",
+                new String[] { "exchangeId", "url", "routeId", "nodeId", "age" },
+                new String[] { "Exchange Id", "Url", "Route Id", "Node Id", "Age" },
+                new OpenType[] {
+                        SimpleType.STRING, SimpleType.STRING, SimpleType.STRING, SimpleType.STRING, SimpleType.LONG });
+    }
+
     public static TabularType listRuntimeEndpointsTabularType() throws OpenDataException {
         CompositeType ct = listRuntimeEndpointsCompositeType();
         return new TabularType(
@@ -286,4 +302,21 @@ public final class CamelOpenMBeanTypes {
                         SimpleType.STRING, SimpleType.STRING, SimpleType.STRING, SimpleType.STRING });
     }
 
+    public static TabularType listTypeConversionsTabularType() throws OpenDataException {
+        CompositeType ct = listTypeConversionsCompositeType();
+        return new TabularType(
+                "listTypeConversions", "Lists the type conversions performed (ordered by the number of conversions)", ct,
+                new String[] { "index" });
+    }
+
+    public static CompositeType listTypeConversionsCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "conversions", "Conversions",
+                new String[] { "index", "fromType", "toType", "counter", "totalTime", "meanTime" },
+                new String[] { "Index", "From Type", "To Type", "Counter", "Total Time (nanos)", "Mean Time (nanos)" },
+                new OpenType[] {
+                        SimpleType.INTEGER, SimpleType.STRING, SimpleType.STRING, SimpleType.LONG, SimpleType.LONG,
+                        SimpleType.LONG });
+    }
+
 }
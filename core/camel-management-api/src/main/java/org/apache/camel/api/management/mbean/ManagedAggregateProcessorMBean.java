@@ -42,6 +42,9 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Completion timeout checker interval in millis")
     long getCompletionTimeoutCheckerInterval();
 
+    @ManagedAttribute(description = "Whether the completion timeout checker uses a hashed timing wheel")
+    boolean isCompletionTimeoutCheckerTimingWheel();
+
     @ManagedAttribute(description = "Completion size")
     int getCompletionSize();
 
@@ -141,6 +144,18 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Total number of exchanged discarded")
     long getDiscarded();
 
+    @ManagedAttribute(description = "Number of shards the correlation groups are partitioned into")
+    int getShards();
+
+    @ManagedOperation(description = "Total number of exchanges arrived into the given shard")
+    long shardTotalIn(int shard);
+
+    @ManagedOperation(description = "Total number of exchanges completed and outgoing from the given shard")
+    long shardTotalCompleted(int shard);
+
+    @ManagedOperation(description = "Current number of groups in the given shard which are waiting for the completion timeout")
+    int shardPendingTimeouts(int shard);
+
     @ManagedOperation(description = " Reset the statistics counters")
     void resetStatistics();
 
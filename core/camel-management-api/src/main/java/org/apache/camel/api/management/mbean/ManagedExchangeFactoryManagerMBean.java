@@ -56,7 +56,14 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedAttribute(description = "Total number of exchanges discarded (such as when capacity is full)")
     Long getTotalDiscarded();
 
+    @ManagedAttribute(description = "Total number of exchanges in use (not released back to the pool) if statistics is enabled")
+    Integer getTotalInUse();
+
     @ManagedOperation(description = "Lists all the statistics in tabular form")
     TabularData listStatistics();
 
+    @ManagedOperation(description = "Lists the exchanges in use (not released back to the pool) for longer than the given"
+                                    + " age in millis, which may be leaks (statistics must be enabled)")
+    TabularData listInUse(long age);
+
 }
@@ -29,6 +29,12 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "If enabled then Camel will process replies out-of-order, eg in the order they come back.")
     Boolean isStreaming();
 
+    @ManagedAttribute(description = "If enabled then Camel will process replies in the same order as the messages was sent in streaming mode.")
+    Boolean isStreamingOrdered();
+
+    @ManagedAttribute(description = "The maximum number of messages which are sent but not yet aggregated, when using parallel processing.")
+    Integer getParallelWindowSize();
+
     @ManagedAttribute(description = "Will now stop further processing if an exception or failure occurred during processing.")
     Boolean isStopOnException();
 
@@ -89,6 +89,27 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Statistics enabled")
     void setStatisticsEnabled(boolean statisticsEnabled);
 
+    @ManagedAttribute(description = "Whether to record a histogram of the processing times for calculating percentiles")
+    boolean isProcessingTimeHistogramEnabled();
+
+    @ManagedAttribute(description = "Whether to record a histogram of the processing times for calculating percentiles")
+    void setProcessingTimeHistogramEnabled(boolean processingTimeHistogramEnabled);
+
+    @ManagedAttribute(description = "50th percentile (median) Processing Time [milliseconds]")
+    long getProcessingTimeP50();
+
+    @ManagedAttribute(description = "90th percentile Processing Time [milliseconds]")
+    long getProcessingTimeP90();
+
+    @ManagedAttribute(description = "99th percentile Processing Time [milliseconds]")
+    long getProcessingTimeP99();
+
+    @ManagedAttribute(description = "99.9th percentile Processing Time [milliseconds]")
+    long getProcessingTimeP999();
+
+    @ManagedOperation(description = "Processing Time [milliseconds] at the given percentile (such as 99.9)")
+    long processingTimePercentile(double percentile);
+
     @ManagedOperation(description = "Dumps the statistics as XML")
     String dumpStatsAsXml(boolean fullStats);
 
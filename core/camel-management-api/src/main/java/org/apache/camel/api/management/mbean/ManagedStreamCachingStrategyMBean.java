@@ -68,6 +68,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    @ManagedAttribute(description = "Maximum size in bytes of a stream to spool to off-heap memory")
+    void setSpoolOffHeapMaxSize(long maxSize);
+
+    @ManagedAttribute(description = "Maximum size in bytes of a stream to spool to off-heap memory")
+    long getSpoolOffHeapMaxSize();
+
+    @ManagedAttribute(description = "Total size in bytes of off-heap memory used for spooling")
+    long getSpoolOffHeapPoolSize();
+
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     void setAnySpoolRules(boolean any);
 
@@ -92,6 +101,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of off-heap spooled stream caches")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap spooled stream caches")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap spooled stream caches")
+    long getCacheOffHeapAverageSize();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -67,6 +67,9 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
     private Boolean onlyRegisterProcessorWithCustomId = false;
     private Boolean loadStatisticsEnabled = false;
     private Boolean endpointRuntimeStatisticsEnabled;
+    private Boolean processingTimeHistogramEnabled = false;
+    private Integer processingTimeHistogramPrecision = 2;
+    private Long processingTimeHistogramWindow = 60000L;
     private Boolean registerAlways = false;
     private Boolean registerNewRoutes = true;
     private Boolean mask = true;
@@ -127,6 +130,10 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
             endpointRuntimeStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED, endpointRuntimeStatisticsEnabled);
         }
+        if (System.getProperty(JmxSystemPropertyKeys.PROCESSING_TIME_HISTOGRAM_ENABLED) != null) {
+            processingTimeHistogramEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.PROCESSING_TIME_HISTOGRAM_ENABLED);
+            values.put(JmxSystemPropertyKeys.PROCESSING_TIME_HISTOGRAM_ENABLED, processingTimeHistogramEnabled);
+        }
         if (System.getProperty(JmxSystemPropertyKeys.STATISTICS_LEVEL) != null) {
             statisticsLevel = camelContext.getTypeConverter().mandatoryConvertTo(ManagementStatisticsLevel.class,
                     System.getProperty(JmxSystemPropertyKeys.STATISTICS_LEVEL));
@@ -276,6 +283,36 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
         this.endpointRuntimeStatisticsEnabled = endpointRuntimeStatisticsEnabled;
     }
 
+    @Override
+    public Boolean getProcessingTimeHistogramEnabled() {
+        return processingTimeHistogramEnabled;
+    }
+
+    @Override
+    public void setProcessingTimeHistogramEnabled(Boolean processingTimeHistogramEnabled) {
+        this.processingTimeHistogramEnabled = processingTimeHistogramEnabled;
+    }
+
+    @Override
+    public Integer getProcessingTimeHistogramPrecision() {
+        return processingTimeHistogramPrecision;
+    }
+
+    @Override
+    public void setProcessingTimeHistogramPrecision(Integer processingTimeHistogramPrecision) {
+        this.processingTimeHistogramPrecision = processingTimeHistogramPrecision;
+    }
+
+    @Override
+    public Long getProcessingTimeHistogramWindow() {
+        return processingTimeHistogramWindow;
+    }
+
+    @Override
+    public void setProcessingTimeHistogramWindow(Long processingTimeHistogramWindow) {
+        this.processingTimeHistogramWindow = processingTimeHistogramWindow;
+    }
+
     @Override
     public ManagementStatisticsLevel getStatisticsLevel() {
         return statisticsLevel;
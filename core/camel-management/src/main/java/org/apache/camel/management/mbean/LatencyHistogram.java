@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed memory histogram of latency values (in millis) which is used for calculating percentiles.
+ * <p/>
+ * The values are recorded in log-linear buckets (as in HDR histograms): values are counted exactly up to a limit
+ * determined by the precision, and above that each power of two range is divided in sub buckets, so the relative error
+ * of the reported percentiles is bounded by the number of significant digits. Values above one hour are counted in the
+ * last bucket.
+ * <p/>
+ * When a window is configured then the histogram is rolling, where the window is divided into a number of slots which
+ * are recycled as time passes, so the percentiles represents the values recorded within the last window.
+ * <p/>
+ * Recording a value is lock-free (a single atomic increment). A value recorded concurrently with a slot being recycled
+ * may be lost, which is on purpose, as this is statistics and the performance overhead to avoid it costs too much.
+ */
+public class LatencyHistogram {
+
+    private static final long HIGHEST_VALUE = 60 * 60 * 1000L;
+    private static final int SLOTS = 4;
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final int subBucketHalfCount;
+    private final int bucketCount;
+    private final long slotMillis;
+    private final AtomicLongArray[] counts;
+    private final AtomicLong[] epochs;
+
+    /**
+     * Creates a histogram
+     *
+     * @param precision number of significant decimal digits (1 to 3)
+     * @param window    the rolling window in millis, or 0 to record all values (until reset)
+     */
+    public LatencyHistogram(int precision, long window) {
+        if (precision < 1 || precision > 3) {
+            throw new IllegalArgumentException("Precision must be between 1 and 3, was: " + precision);
+        }
+        // enough sub buckets to tell apart values which differ by one unit in the least significant digit
+        long largestExact = 2 * (long) Math.pow(10, precision);
+        this.subBucketBits = 64 - Long.numberOfLeadingZeros(largestExact - 1);
+        this.subBucketCount = 1 << subBucketBits;
+        this.subBucketHalfCount = subBucketCount >> 1;
+        this.bucketCount = indexOf(HIGHEST_VALUE) + 1;
+
+        int slots = window > 0 ? SLOTS : 1;
+        this.slotMillis = window > 0 ? Math.max(1, window / SLOTS) : 0;
+        this.counts = new AtomicLongArray[slots];
+        this.epochs = new AtomicLong[slots];
+        for (int i = 0; i < slots; i++) {
+            counts[i] = new AtomicLongArray(bucketCount);
+            epochs[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Records the value
+     *
+     * @param value the value in millis
+     * @param now   the current time in millis
+     */
+    public void recordValue(long value, long now) {
+        int index = value >= HIGHEST_VALUE ? bucketCount - 1 : indexOf(Math.max(0, value));
+        counts[slot(now)].incrementAndGet(index);
+    }
+
+    /**
+     * Gets the value at the given percentile of the values recorded within the window
+     *
+     * @param  percentile the percentile (such as 99.9)
+     * @param  now        the current time in millis
+     * @return            the value (as the highest value which is equivalent within the precision), or 0 if no values
+     */
+    public long getValueAtPercentile(double percentile, long now) {
+        long[] merged = new long[bucketCount];
+        long total = 0;
+        long epoch = slotMillis > 0 ? now / slotMillis : 0;
+        for (int i = 0; i < counts.length; i++) {
+            // only include slots within the window
+            if (epoch - epochs[i].get() < counts.length) {
+                for (int j = 0; j < bucketCount; j++) {
+                    long count = counts[i].get(j);
+                    merged[j] += count;
+                    total += count;
+                }
+            }
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double p = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max(1, (long) Math.ceil(p / 100 * total));
+        long sum = 0;
+        for (int j = 0; j < bucketCount; j++) {
+            sum += merged[j];
+            if (sum >= rank) {
+                return highestEquivalentValue(j);
+            }
+        }
+        return HIGHEST_VALUE;
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            for (int j = 0; j < bucketCount; j++) {
+                counts[i].set(j, 0);
+            }
+            epochs[i].set(0);
+        }
+    }
+
+    private int slot(long now) {
+        if (slotMillis == 0) {
+            return 0;
+        }
+        long epoch = now / slotMillis;
+        int slot = (int) (epoch % counts.length);
+        AtomicLong current = epochs[slot];
+        long last = current.get();
+        if (last != epoch && current.compareAndSet(last, epoch)) {
+            // the slot is recycled from an older window
+            AtomicLongArray array = counts[slot];
+            for (int j = 0; j < bucketCount; j++) {
+                array.set(j, 0);
+            }
+        }
+        return slot;
+    }
+
+    private int indexOf(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        // the power of two range the value is within, where each range is divided into half count sub buckets
+        int shift = 64 - Long.numberOfLeadingZeros(value) - subBucketBits;
+        int sub = (int) (value >>> shift);
+        return subBucketCount + (shift - 1) * subBucketHalfCount + (sub - subBucketHalfCount);
+    }
+
+    private long highestEquivalentValue(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = (index - subBucketCount) / subBucketHalfCount + 1;
+        long sub = (index - subBucketCount) % subBucketHalfCount + subBucketHalfCount;
+        return Math.min(((sub + 1) << shift) - 1, HIGHEST_VALUE);
+    }
+
+}
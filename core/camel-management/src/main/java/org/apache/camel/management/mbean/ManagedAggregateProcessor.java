@@ -100,6 +100,11 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.getCompletionTimeoutCheckerInterval();
     }
 
+    @Override
+    public boolean isCompletionTimeoutCheckerTimingWheel() {
+        return processor.isCompletionTimeoutCheckerTimingWheel();
+    }
+
     @Override
     public int getCompletionSize() {
         return processor.getCompletionSize();
@@ -302,6 +307,26 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.getStatistics().getDiscarded();
     }
 
+    @Override
+    public int getShards() {
+        return processor.getShards();
+    }
+
+    @Override
+    public long shardTotalIn(int shard) {
+        return processor.getStatistics().getShardTotalIn(shard);
+    }
+
+    @Override
+    public long shardTotalCompleted(int shard) {
+        return processor.getStatistics().getShardTotalCompleted(shard);
+    }
+
+    @Override
+    public int shardPendingTimeouts(int shard) {
+        return processor.getStatistics().getShardPendingTimeouts(shard);
+    }
+
     @Override
     public void resetStatistics() {
         processor.getStatistics().reset();
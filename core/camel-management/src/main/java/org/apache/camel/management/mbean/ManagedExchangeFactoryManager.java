@@ -25,6 +25,8 @@ import javax.management.openmbean.TabularData;
 import javax.management.openmbean.TabularDataSupport;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
@@ -32,6 +34,7 @@ import org.apache.camel.api.management.mbean.ManagedExchangeFactoryManagerMBean;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.URISupport;
 
 @ManagedResource(description = "Managed ExchangeFactory")
@@ -106,6 +109,15 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getStatistics().getDiscardedCounter();
     }
 
+    @Override
+    public Integer getTotalInUse() {
+        int counter = 0;
+        for (ExchangeFactory ef : exchangeFactoryManager.getExchangeFactories()) {
+            counter += ef.getInUse().size();
+        }
+        return counter;
+    }
+
     @Override
     public TabularData listStatistics() {
         try {
@@ -143,4 +155,37 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
+
+    @Override
+    public TabularData listInUse(long age) {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listExchangeFactoryInUseTabularType());
+            long now = System.currentTimeMillis();
+            for (ExchangeFactory ef : exchangeFactoryManager.getExchangeFactories()) {
+                String url = ef.getConsumer().getEndpoint().getEndpointUri();
+                if (sanitize) {
+                    url = URISupport.sanitizeUri(url);
+                }
+                for (Exchange exchange : ef.getInUse()) {
+                    long created = exchange.getCreated();
+                    if (created <= 0 || now - created < age) {
+                        // already released or not old enough
+                        continue;
+                    }
+                    CompositeType ct = CamelOpenMBeanTypes.listExchangeFactoryInUseCompositeType();
+                    String routeId = ExchangeHelper.getRouteId(exchange);
+                    String nodeId = exchange.adapt(ExtendedExchange.class).getHistoryNodeId();
+
+                    CompositeData data = new CompositeDataSupport(
+                            ct,
+                            new String[] { "exchangeId", "url", "routeId", "nodeId", "age" },
+                            new Object[] { exchange.getExchangeId(), url, routeId, nodeId, now - created });
+                    answer.put(data);
+                }
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
 }
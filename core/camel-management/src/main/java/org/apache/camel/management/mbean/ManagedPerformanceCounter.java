@@ -23,6 +23,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
 import org.apache.camel.management.PerformanceCounter;
+import org.apache.camel.spi.ManagementAgent;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ExchangeHelper;
 
@@ -53,6 +54,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastExchangeFailureTimestamp;
     private String lastExchangeFailureExchangeId;
     private boolean statisticsEnabled = true;
+    private int histogramPrecision = 2;
+    private long histogramWindow = 60000;
+    private volatile LatencyHistogram processingTimeHistogram;
 
     @Override
     public void init(ManagementStrategy strategy) {
@@ -76,6 +80,19 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.firstExchangeFailureTimestamp = new StatisticValue();
         this.lastExchangeCompletedTimestamp = new StatisticValue();
         this.lastExchangeFailureTimestamp = new StatisticValue();
+
+        ManagementAgent agent = strategy.getManagementAgent();
+        if (agent != null) {
+            if (agent.getProcessingTimeHistogramPrecision() != null) {
+                this.histogramPrecision = agent.getProcessingTimeHistogramPrecision();
+            }
+            if (agent.getProcessingTimeHistogramWindow() != null) {
+                this.histogramWindow = agent.getProcessingTimeHistogramWindow();
+            }
+            if (agent.getProcessingTimeHistogramEnabled() != null && agent.getProcessingTimeHistogramEnabled()) {
+                this.processingTimeHistogram = new LatencyHistogram(histogramPrecision, histogramWindow);
+            }
+        }
     }
 
     @Override
@@ -101,6 +118,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastExchangeCompletedExchangeId = null;
         lastExchangeFailureTimestamp.reset();
         lastExchangeFailureExchangeId = null;
+        LatencyHistogram histogram = processingTimeHistogram;
+        if (histogram != null) {
+            histogram.reset();
+        }
     }
 
     @Override
@@ -163,6 +184,46 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public boolean isProcessingTimeHistogramEnabled() {
+        return processingTimeHistogram != null;
+    }
+
+    @Override
+    public void setProcessingTimeHistogramEnabled(boolean processingTimeHistogramEnabled) {
+        if (processingTimeHistogramEnabled && processingTimeHistogram == null) {
+            processingTimeHistogram = new LatencyHistogram(histogramPrecision, histogramWindow);
+        } else if (!processingTimeHistogramEnabled) {
+            processingTimeHistogram = null;
+        }
+    }
+
+    @Override
+    public long getProcessingTimeP50() {
+        return processingTimePercentile(50);
+    }
+
+    @Override
+    public long getProcessingTimeP90() {
+        return processingTimePercentile(90);
+    }
+
+    @Override
+    public long getProcessingTimeP99() {
+        return processingTimePercentile(99);
+    }
+
+    @Override
+    public long getProcessingTimeP999() {
+        return processingTimePercentile(99.9);
+    }
+
+    @Override
+    public long processingTimePercentile(double percentile) {
+        LatencyHistogram histogram = processingTimeHistogram;
+        return histogram != null ? histogram.getValueAtPercentile(percentile, System.currentTimeMillis()) : 0;
+    }
+
     @Override
     public Date getLastExchangeCompletedTimestamp() {
         long value = lastExchangeCompletedTimestamp.getValue();
@@ -242,6 +303,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         deltaProcessingTime.updateValue(time);
 
         long now = System.currentTimeMillis();
+        LatencyHistogram histogram = processingTimeHistogram;
+        if (histogram != null) {
+            histogram.recordValue(time, now);
+        }
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
             firstExchangeCompletedTimestamp.updateValue(now);
         }
@@ -301,6 +366,14 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        LatencyHistogram histogram = processingTimeHistogram;
+        if (histogram != null) {
+            long now = System.currentTimeMillis();
+            sb.append(String.format(" processingTimeP50=\"%s\"", histogram.getValueAtPercentile(50, now)));
+            sb.append(String.format(" processingTimeP90=\"%s\"", histogram.getValueAtPercentile(90, now)));
+            sb.append(String.format(" processingTimeP99=\"%s\"", histogram.getValueAtPercentile(99, now)));
+            sb.append(String.format(" processingTimeP999=\"%s\"", histogram.getValueAtPercentile(99.9, now)));
+        }
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
@@ -133,6 +133,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isRemoveSpoolDirectoryWhenStopping();
     }
 
+    @Override
+    public void setSpoolOffHeapMaxSize(long maxSize) {
+        streamCachingStrategy.setSpoolOffHeapMaxSize(maxSize);
+    }
+
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return streamCachingStrategy.getSpoolOffHeapMaxSize();
+    }
+
+    @Override
+    public long getSpoolOffHeapPoolSize() {
+        return streamCachingStrategy.getSpoolOffHeapPoolSize();
+    }
+
     @Override
     public void setAnySpoolRules(boolean any) {
         streamCachingStrategy.setAnySpoolRules(any);
@@ -173,6 +188,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
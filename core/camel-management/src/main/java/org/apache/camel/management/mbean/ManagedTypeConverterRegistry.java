@@ -16,9 +16,18 @@
  */
 package org.apache.camel.management.mbean;
 
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedTypeConverterRegistryMBean;
 import org.apache.camel.spi.TypeConverterRegistry;
 
@@ -64,6 +73,30 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         return registry.getStatistics().getFailedCounter();
     }
 
+    @Override
+    public TabularData listTypeConversions() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listTypeConversionsTabularType());
+            List<TypeConverterRegistry.ConversionStatistic> stats = registry.getStatistics().getConversionStatistics();
+            int index = 0;
+            for (TypeConverterRegistry.ConversionStatistic stat : stats) {
+                CompositeType ct = CamelOpenMBeanTypes.listTypeConversionsCompositeType();
+                long counter = stat.getCounter();
+                long total = stat.getTotalTime();
+                long mean = counter > 0 ? total / counter : 0;
+                CompositeData data = new CompositeDataSupport(
+                        ct, new String[] { "index", "fromType", "toType", "counter", "totalTime", "meanTime" },
+                        new Object[] {
+                                index, stat.getFromType().getName(), stat.getToType().getName(), counter, total, mean });
+                answer.put(data);
+                index++;
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
     @Override
     public void resetTypeConversionCounters() {
         registry.getStatistics().reset();
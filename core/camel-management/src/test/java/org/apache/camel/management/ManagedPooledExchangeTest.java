@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -106,6 +107,14 @@ public class ManagedPooledExchangeTest extends ManagementTestSupport {
 
         num = (Long) mbeanServer.getAttribute(on, "TotalDiscarded");
         assertEquals(0, num.intValue());
+
+        // no leaks
+        con = (Integer) mbeanServer.getAttribute(on, "TotalInUse");
+        assertEquals(0, con.intValue());
+
+        TabularData data = (TabularData) mbeanServer.invoke(on, "listInUse", new Object[] { 0L },
+                new String[] { "long" });
+        assertEquals(0, data.size());
     }
 
     @Override
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.management.mbean.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedProcessingTimeHistogramTest extends ManagementTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testHistogramIsDisabledByDefault() throws Exception {
+        context.addRoutes(createRouteBuilder());
+        context.start();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        template.sendBodyAndHeader("direct:start", "Hello World", "delay", 10);
+        assertMockEndpointsSatisfied();
+
+        assertEquals(Boolean.FALSE, mbeanServer.getAttribute(on, "ProcessingTimeHistogramEnabled"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "ProcessingTimeP99"));
+        String xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[] { false },
+                new String[] { "boolean" });
+        assertFalse(xml.contains("processingTimeP99"));
+    }
+
+    @Test
+    public void testHistogramPercentiles() throws Exception {
+        context.getManagementStrategy().getManagementAgent().setProcessingTimeHistogramEnabled(true);
+        context.addRoutes(createRouteBuilder());
+        context.start();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        for (int i = 0; i < 9; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "delay", 0);
+        }
+        template.sendBodyAndHeader("direct:start", "Bye World", "delay", 300);
+        assertMockEndpointsSatisfied();
+
+        assertEquals(Boolean.TRUE, mbeanServer.getAttribute(on, "ProcessingTimeHistogramEnabled"));
+        long p50 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP50");
+        long p999 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP999");
+        assertTrue(p50 < 200, "Should be fast: " + p50);
+        assertTrue(p999 >= 300, "Should be slow: " + p999);
+
+        String xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[] { false },
+                new String[] { "boolean" });
+        assertTrue(xml.contains("processingTimeP999=\"" + p999 + "\""));
+
+        // reset the statistics also resets the histogram
+        mbeanServer.invoke(on, "reset", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(on, "ProcessingTimeP999"));
+    }
+
+    @Test
+    public void testLatencyHistogram() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(2, 0);
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordValue(i, 0);
+        }
+        histogram.recordValue(100000, 0);
+
+        // values are within 1% with 2 significant digits
+        assertEquals(500, histogram.getValueAtPercentile(50, 0), 5);
+        assertEquals(990, histogram.getValueAtPercentile(99, 0), 10);
+        assertEquals(100000, histogram.getValueAtPercentile(100, 0), 1000);
+
+        // rolling window of 1 second
+        histogram = new LatencyHistogram(2, 1000);
+        histogram.recordValue(5, 10000);
+        histogram.recordValue(7, 10500);
+        assertEquals(7, histogram.getValueAtPercentile(100, 10900));
+        assertEquals(7, histogram.getValueAtPercentile(100, 11400));
+        assertEquals(0, histogram.getValueAtPercentile(100, 12000));
+    }
+
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .delay(header("delay")).syncDelayed()
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
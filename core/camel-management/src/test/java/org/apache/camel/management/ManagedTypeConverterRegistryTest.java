@@ -21,6 +21,8 @@ import java.util.Set;
 import javax.management.Attribute;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
 
 import org.apache.camel.builder.RouteBuilder;
 import org.junit.jupiter.api.Test;
@@ -82,6 +84,18 @@ public class ManagedTypeConverterRegistryTest extends ManagementTestSupport {
         miss = (Long) mbeanServer.getAttribute(name, "MissCounter");
         assertEquals(0, miss.intValue());
 
+        // should have the conversion from String to int
+        TabularData conversions = (TabularData) mbeanServer.invoke(name, "listTypeConversions", null, null);
+        CompositeData found = null;
+        for (Object row : conversions.values()) {
+            CompositeData data = (CompositeData) row;
+            if ("java.lang.String".equals(data.get("fromType")) && "int".equals(data.get("toType"))) {
+                found = data;
+            }
+        }
+        assertNotNull(found, "Should have conversion from String to int");
+        assertEquals(1L, found.get("counter"));
+
         // reset
         mbeanServer.invoke(name, "resetTypeConversionCounters", null, null);
 
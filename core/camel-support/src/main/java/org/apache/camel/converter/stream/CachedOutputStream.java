@@ -42,6 +42,7 @@ public class CachedOutputStream extends OutputStream {
     private final StreamCachingStrategy strategy;
     private OutputStream currentStream;
     private boolean inMemory = true;
+    private OffHeapOutputStream offHeapStream;
     private int totalLength;
     private final TempFileManager tempFileManager;
     private final boolean closedOnCompletion;
@@ -70,6 +71,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.releaseOffHeap();
         }
     }
 
@@ -89,33 +91,27 @@ public class CachedOutputStream extends OutputStream {
 
     @Override
     public String toString() {
-        return "CachedOutputStream[size: " + totalLength + "]";
+        return "CachedOutputStream[size: " + totalLength + (offHeapStream != null ? ", offHeap" : "") + "]";
     }
 
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        checkSpool();
         currentStream.write(b, off, len);
     }
 
     @Override
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        checkSpool();
         currentStream.write(b);
     }
 
     @Override
     public void write(int b) throws IOException {
         this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        checkSpool();
         currentStream.write(b);
     }
 
@@ -142,21 +138,68 @@ public class CachedOutputStream extends OutputStream {
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
+        } else if (offHeapStream != null) {
+            return tempFileManager.newOffHeapStreamCache();
         } else {
             return tempFileManager.newStreamCache();
         }
     }
 
-    private void pageToFileStream() throws IOException {
+    private void checkSpool() throws IOException {
+        if (inMemory) {
+            if (currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+                if (!pageToOffHeapStream()) {
+                    pageToFileStream();
+                }
+            }
+        } else if (offHeapStream != null) {
+            // overflow to file when the stream has grown too big or there is no more off-heap memory
+            if (totalLength > strategy.getSpoolOffHeapMaxSize() || !offHeapStream.ensureCapacity(totalLength)) {
+                pageToFileStream();
+            }
+        }
+    }
+
+    private boolean pageToOffHeapStream() throws IOException {
+        if (totalLength > strategy.getSpoolOffHeapMaxSize()) {
+            return false;
+        }
+        OffHeapOutputStream out = tempFileManager.createOffHeapOutputStream(strategy);
+        if (out == null) {
+            return false;
+        }
+        if (!out.ensureCapacity(totalLength)) {
+            out.release();
+            return false;
+        }
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+        bout.writeTo(out);
+        currentStream = out;
+        offHeapStream = out;
+        inMemory = false;
+        return true;
+    }
+
+    private void pageToFileStream() throws IOException {
+        flush();
+        OutputStream previous = currentStream;
         try {
             // creates an tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            bout.writeTo(currentStream);
+            if (offHeapStream != null) {
+                offHeapStream.writeTo(currentStream, strategy.getBufferSize());
+            } else {
+                ((ByteArrayOutputStream) previous).writeTo(currentStream);
+            }
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
+            if (offHeapStream != null) {
+                // the off-heap memory is no longer in use
+                offHeapStream.release();
+                offHeapStream = null;
+            }
         }
     }
 
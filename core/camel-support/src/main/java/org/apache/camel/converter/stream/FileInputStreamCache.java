@@ -171,6 +171,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private volatile OffHeapOutputStream offHeapStream;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -221,6 +222,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                                 LOG.warn("Error deleting temporary cache file: {}. This exception will be ignored.",
                                         tempFile, e);
                             }
+                            releaseOffHeap();
                         }
                     }
 
@@ -294,6 +296,37 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
+        /**
+         * Creates an output stream to spool to pooled off-heap memory.
+         *
+         * @return the output stream, or <tt>null</tt> if off-heap memory cannot be used and the stream should be
+         *         spooled to file instead
+         */
+        OffHeapOutputStream createOffHeapOutputStream(StreamCachingStrategy strategy) {
+            if (offHeapStream != null) {
+                throw new IllegalStateException("The method 'createOffHeapOutputStream' can only be called once!");
+            }
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                // exchange was already stopped so the memory would never be released
+                // let createOutputStream fail with a detailed error instead
+                return null;
+            }
+            offHeapStream = new OffHeapOutputStream(strategy);
+            return offHeapStream;
+        }
+
+        OffHeapInputStreamCache newOffHeapStreamCache() {
+            return new OffHeapInputStreamCache(offHeapStream, this);
+        }
+
+        void releaseOffHeap() {
+            OffHeapOutputStream stream = offHeapStream;
+            if (stream != null) {
+                LOG.trace("Releasing off-heap stream cache: {}", stream);
+                stream.release();
+            }
+        }
+
         FileInputStreamCache newStreamCache() throws IOException {
             try {
                 return new FileInputStreamCache(this);
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} for streams which has been spooled to pooled off-heap memory.
+ * <p/>
+ * The off-heap memory is released back to the pool when all the exchanges using the stream cache are done, in the
+ * same way as temporary files are deleted for {@link FileInputStreamCache}.
+ *
+ * @see org.apache.camel.spi.StreamCachingStrategy#setSpoolOffHeapMaxSize(long)
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final OffHeapOutputStream owner;
+    private final TempFileManager tempFileManager;
+    private final ByteBuffer[] segments;
+    private final long length;
+    private int index;
+
+    OffHeapInputStreamCache(OffHeapOutputStream owner, TempFileManager tempFileManager) {
+        this.owner = owner;
+        this.tempFileManager = tempFileManager;
+        this.segments = owner.segmentViews();
+        this.length = owner.length();
+    }
+
+    @Override
+    public int read() throws IOException {
+        long stamp = owner.lockRead();
+        try {
+            ByteBuffer segment = currentSegment();
+            return segment != null ? segment.get() & 0xff : -1;
+        } finally {
+            owner.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        long stamp = owner.lockRead();
+        try {
+            ByteBuffer segment = currentSegment();
+            if (segment == null) {
+                return -1;
+            }
+            int chunk = Math.min(len, segment.remaining());
+            segment.get(b, off, chunk);
+            return chunk;
+        } finally {
+            owner.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        long stamp = owner.lockRead();
+        try {
+            while (skipped < n) {
+                ByteBuffer segment = currentSegment();
+                if (segment == null) {
+                    break;
+                }
+                int chunk = (int) Math.min(n - skipped, segment.remaining());
+                segment.position(segment.position() + chunk);
+                skipped += chunk;
+            }
+        } finally {
+            owner.unlockRead(stamp);
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        long remaining = 0;
+        for (int i = index; i < segments.length; i++) {
+            remaining += segments[i].remaining();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, remaining);
+    }
+
+    @Override
+    public void reset() {
+        for (ByteBuffer segment : segments) {
+            segment.rewind();
+        }
+        index = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        // write the remaining content without consuming it, like InputStreamCache does
+        byte[] buffer = new byte[(int) Math.min(length, 8192)];
+        for (int i = index; i < segments.length; i++) {
+            ByteBuffer view = segments[i].duplicate();
+            while (view.hasRemaining()) {
+                int chunk;
+                // only hold the lock while reading, and not while writing to the stream
+                long stamp = owner.lockRead();
+                try {
+                    chunk = Math.min(buffer.length, view.remaining());
+                    view.get(buffer, 0, chunk);
+                } finally {
+                    owner.unlockRead(stamp);
+                }
+                os.write(buffer, 0, chunk);
+            }
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        long stamp = owner.lockRead();
+        try {
+            tempFileManager.addExchange(exchange);
+            return new OffHeapInputStreamCache(owner, tempFileManager);
+        } finally {
+            owner.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean inMemory() {
+        // the content is not stored on the heap
+        return false;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Gets the segment to read from, which must be called while holding the read lock of the owner.
+     */
+    private ByteBuffer currentSegment() {
+        while (index < segments.length) {
+            ByteBuffer segment = segments[index];
+            if (segment.hasRemaining()) {
+                return segment;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapInputStreamCache[size: " + length + "]";
+    }
+}
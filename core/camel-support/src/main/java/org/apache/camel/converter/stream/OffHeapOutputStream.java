@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.StampedLock;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * An {@link OutputStream} which writes to segments of pooled off-heap memory acquired from the
+ * {@link StreamCachingStrategy}.
+ * <p/>
+ * The segments must be acquired up front using {@link #ensureCapacity(long)}, which allows the caller to spool to disk
+ * instead when there is no more off-heap memory available.
+ * <p/>
+ * The segments are read by {@link OffHeapInputStreamCache} while holding a read lock, so they can only be released
+ * back to the pool (to be used by other exchanges) when no stream cache is reading them.
+ *
+ * @see CachedOutputStream
+ */
+final class OffHeapOutputStream extends OutputStream {
+
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private long capacity;
+    private long length;
+    private int index;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private final StampedLock lock = new StampedLock();
+
+    OffHeapOutputStream(StreamCachingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Acquires off-heap memory segments until there is room for the given total number of bytes.
+     *
+     * @return <tt>true</tt> if there is room, <tt>false</tt> if no more off-heap memory is available
+     */
+    boolean ensureCapacity(long total) {
+        while (capacity < total) {
+            ByteBuffer segment = strategy.acquireOffHeapSegment();
+            if (segment == null) {
+                return false;
+            }
+            segments.add(segment);
+            capacity += segment.capacity();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        currentSegment().put((byte) b);
+        length++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer segment = currentSegment();
+            int chunk = Math.min(len, segment.remaining());
+            segment.put(b, off, chunk);
+            off += chunk;
+            len -= chunk;
+            length += chunk;
+        }
+    }
+
+    /**
+     * Writes the content to the given stream, such as when overflowing to disk.
+     */
+    void writeTo(OutputStream os, int bufferSize) throws IOException {
+        byte[] buffer = new byte[bufferSize];
+        for (ByteBuffer segment : segmentViews()) {
+            while (segment.hasRemaining()) {
+                int chunk = Math.min(buffer.length, segment.remaining());
+                segment.get(buffer, 0, chunk);
+                os.write(buffer, 0, chunk);
+            }
+        }
+    }
+
+    /**
+     * Creates read-only views of the written content, which are independent of each other.
+     */
+    ByteBuffer[] segmentViews() {
+        ByteBuffer[] answer = new ByteBuffer[segments.size()];
+        for (int i = 0; i < answer.length; i++) {
+            ByteBuffer view = segments.get(i).asReadOnlyBuffer();
+            view.flip();
+            answer[i] = view;
+        }
+        return answer;
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * Acquires the read lock, which must be held while reading the segments.
+     *
+     * @return             the stamp to unlock the read lock with {@link #unlockRead(long)}
+     * @throws IOException if the segments has been released
+     */
+    long lockRead() throws IOException {
+        long stamp = lock.readLock();
+        if (released.get()) {
+            lock.unlockRead(stamp);
+            throw new IOException("Off-heap stream cache has been released as the exchange is done");
+        }
+        return stamp;
+    }
+
+    void unlockRead(long stamp) {
+        lock.unlockRead(stamp);
+    }
+
+    /**
+     * Releases the off-heap memory segments back to the pool (only once), when no stream cache is reading them.
+     */
+    void release() {
+        if (released.compareAndSet(false, true)) {
+            long stamp = lock.writeLock();
+            try {
+                for (ByteBuffer segment : segments) {
+                    strategy.releaseOffHeapSegment(segment);
+                }
+                segments.clear();
+                capacity = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private ByteBuffer currentSegment() throws IOException {
+        if (released.get()) {
+            throw new IOException("Off-heap stream cache has been released");
+        }
+        while (index < segments.size()) {
+            ByteBuffer segment = segments.get(index);
+            if (segment.hasRemaining()) {
+                return segment;
+            }
+            index++;
+        }
+        throw new IOException("No more off-heap memory acquired for stream cache of " + length + " bytes");
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapOutputStream[size: " + length + ", segments: " + segments.size() + "]";
+    }
+}
@@ -34,12 +34,17 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * When the {@link ThreadPoolProfile} is configured to use virtual threads, and the JVM supports virtual threads, then
+ * an executor which starts a new virtual thread per task is created instead of a regular thread pool.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
@@ -62,6 +67,13 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads()) && VirtualThreadHelper.isVirtualThreadsSupported()) {
+            // virtual threads are cheap so there is no need for pooling them
+            if (!(factory instanceof CamelThreadFactory && ((CamelThreadFactory) factory).isVirtual())) {
+                factory = VirtualThreadHelper::newVirtualThread;
+            }
+            return VirtualThreadHelper.newThreadPerTaskExecutor(factory);
+        }
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
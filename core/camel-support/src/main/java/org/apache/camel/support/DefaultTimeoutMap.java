@@ -48,6 +48,12 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * By default the purge task scans all the entries in the map to find the expired entries. When the map holds many
+ * entries then the timing wheel can be enabled (see {@link #setTimingWheel(boolean)}) where the entries are kept in a
+ * hashed wheel of buckets (one bucket per poll interval), which allows adding and removing entries in constant time, and
+ * the purge task only visits the buckets whose time has passed. The timing wheel is guarded by its own lock, so it
+ * can also be used when locking is not enabled.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
@@ -58,6 +64,12 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
     private final Lock lock;
+    // guards the timing wheel (and keeps it in sync with the map) also when locking is not enabled
+    private final Lock wheelLock = new ReentrantLock();
+    private boolean timingWheel;
+    private int ticksPerWheel = 512;
+    private TimeoutMapEntry<K, V>[] wheel;
+    private long wheelTick = -1;
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -102,7 +114,19 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         lock.lock();
         try {
             updateExpireTime(entry);
-            TimeoutMapEntry<K, V> result = map.put(key, entry);
+            TimeoutMapEntry<K, V> result;
+            if (timingWheel) {
+                wheelLock.lock();
+                try {
+                    result = map.put(key, entry);
+                    unlinkFromWheel(result);
+                    linkToWheel(entry, currentWheelTick() + 1);
+                } finally {
+                    wheelLock.unlock();
+                }
+            } else {
+                result = map.put(key, entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -118,7 +142,19 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
-            result = map.putIfAbsent(key, entry);
+            if (timingWheel) {
+                wheelLock.lock();
+                try {
+                    result = map.putIfAbsent(key, entry);
+                    if (result == null) {
+                        linkToWheel(entry, currentWheelTick() + 1);
+                    }
+                } finally {
+                    wheelLock.unlock();
+                }
+            } else {
+                result = map.putIfAbsent(key, entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -133,7 +169,19 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> result;
+            if (timingWheel) {
+                wheelLock.lock();
+                try {
+                    result = map.remove(key);
+                    unlinkFromWheel(result);
+                } finally {
+                    wheelLock.unlock();
+                }
+            } else {
+                result = map.remove(key);
+            }
+            value = unwrap(result);
             return value;
         } finally {
             lock.unlock();
@@ -172,6 +220,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         if (map.isEmpty()) {
             return;
         }
+        if (timingWheel) {
+            purgeTimingWheel();
+            return;
+        }
 
         long now = currentTime();
 
@@ -206,6 +258,58 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
     }
 
+    /**
+     * Purges the expired entries by only visiting the buckets of the timing wheel which has elapsed since the last
+     * purge. Entries which are not yet expired (such as when their expire time has been updated by {@link #get(Object)}
+     * or they are scheduled for a later round of the wheel) are moved to the bucket of their current expire time.
+     */
+    private void purgeTimingWheel() {
+        long now = currentTime();
+
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
+        lock.lock();
+        wheelLock.lock();
+        try {
+            long last = currentWheelTick();
+            long tick = toWheelTick(now);
+            // if we are behind by a full round (or more) then all the buckets must be visited
+            long ticks = Math.min(tick - last, wheel.length);
+            for (long t = tick - ticks + 1; t <= tick; t++) {
+                int index = (int) (t & (wheel.length - 1));
+                TimeoutMapEntry<K, V> entry = wheel[index];
+                wheel[index] = null;
+                while (entry != null) {
+                    TimeoutMapEntry<K, V> next = entry.wheelNext;
+                    entry.wheelPrev = null;
+                    entry.wheelNext = null;
+                    entry.wheelBucket = -1;
+                    if (entry.getExpireTime() < now && isValidForEviction(entry)) {
+                        log.debug("Evicting inactive entry ID: {}", entry);
+                        expired.add(entry);
+                    } else {
+                        linkToWheel(entry, tick + 1);
+                    }
+                    entry = next;
+                }
+            }
+            wheelTick = tick;
+
+            if (!expired.isEmpty()) {
+                // sort according to the expired time so we got the first expired first
+                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+                for (TimeoutMapEntry<K, V> entry : expired) {
+                    map.remove(entry.getKey(), entry);
+                }
+            }
+        } finally {
+            wheelLock.unlock();
+            lock.unlock();
+            for (TimeoutMapEntry<K, V> entry : expired) {
+                emitEvent(Evict, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -217,6 +321,33 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return executor;
     }
 
+    public boolean isTimingWheel() {
+        return timingWheel;
+    }
+
+    /**
+     * Whether to keep the entries in a hashed timing wheel, so adding, removing and expiring entries does not require to
+     * scan all the entries in the map. This is recommended when the map holds many entries. The timing wheel must be
+     * enabled before any entries is added to the map. The timing wheel has its own lock, so it does not require locking
+     * to be enabled.
+     */
+    public void setTimingWheel(boolean timingWheel) {
+        this.timingWheel = timingWheel;
+    }
+
+    public int getTicksPerWheel() {
+        return ticksPerWheel;
+    }
+
+    /**
+     * Number of buckets in the timing wheel, where each bucket covers one purge poll interval. The value is rounded up
+     * to a power of two. Entries which expire after a full round of the wheel are revisited once per round. The default
+     * is 512.
+     */
+    public void setTicksPerWheel(int ticksPerWheel) {
+        this.ticksPerWheel = ticksPerWheel;
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -224,6 +355,58 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return entry == null ? null : entry.getValue();
     }
 
+    private long toWheelTick(long time) {
+        return time / Math.max(1, purgePollTime);
+    }
+
+    /**
+     * The last tick of the timing wheel which has been purged (must be called while holding the wheel lock)
+     */
+    @SuppressWarnings("unchecked")
+    private long currentWheelTick() {
+        if (wheel == null) {
+            int size = 1;
+            while (size < ticksPerWheel) {
+                size <<= 1;
+            }
+            wheel = new TimeoutMapEntry[size];
+        }
+        if (wheelTick < 0) {
+            wheelTick = toWheelTick(currentTime()) - 1;
+        }
+        return wheelTick;
+    }
+
+    private void linkToWheel(TimeoutMapEntry<K, V> entry, long minTick) {
+        long tick = Math.max(toWheelTick(entry.getExpireTime()), minTick);
+        int index = (int) (tick & (wheel.length - 1));
+        TimeoutMapEntry<K, V> head = wheel[index];
+        if (head != null) {
+            head.wheelPrev = entry;
+        }
+        entry.wheelNext = head;
+        entry.wheelPrev = null;
+        entry.wheelBucket = index;
+        wheel[index] = entry;
+    }
+
+    private void unlinkFromWheel(TimeoutMapEntry<K, V> entry) {
+        if (entry == null || entry.wheelBucket < 0) {
+            return;
+        }
+        if (entry.wheelPrev != null) {
+            entry.wheelPrev.wheelNext = entry.wheelNext;
+        } else {
+            wheel[entry.wheelBucket] = entry.wheelNext;
+        }
+        if (entry.wheelNext != null) {
+            entry.wheelNext.wheelPrev = entry.wheelPrev;
+        }
+        entry.wheelPrev = null;
+        entry.wheelNext = null;
+        entry.wheelBucket = -1;
+    }
+
     @Override
     public void addListener(Listener<K, V> listener) {
         this.listeners.add(listener);
@@ -277,7 +460,16 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             future = null;
         }
         // clear map if we stop
-        map.clear();
+        lock.lock();
+        wheelLock.lock();
+        try {
+            map.clear();
+            wheel = null;
+            wheelTick = -1;
+        } finally {
+            wheelLock.unlock();
+            lock.unlock();
+        }
     }
 
 }
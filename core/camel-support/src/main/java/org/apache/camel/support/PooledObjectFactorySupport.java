@@ -16,8 +16,17 @@
  */
 package org.apache.camel.support;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
@@ -33,6 +42,10 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
     protected UtilizationStatistics statistics;
     protected CamelContext camelContext;
     protected BlockingQueue<T> pool;
+    // objects acquired and not yet released back, which is only tracked when statistics is enabled to detect leaks,
+    // the objects are weak referenced so leaked objects can still be garbage collected
+    private final Set<InUseReference<T>> inUse = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<T> inUseQueue = new ReferenceQueue<>();
     protected int capacity = 100;
     protected boolean statisticsEnabled;
 
@@ -73,6 +86,9 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
     @Override
     public void setStatisticsEnabled(boolean statisticsEnabled) {
         this.statisticsEnabled = statisticsEnabled;
+        if (!statisticsEnabled) {
+            clearInUse();
+        }
     }
 
     @Override
@@ -118,6 +134,58 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
         return statistics;
     }
 
+    @Override
+    public Collection<T> getInUse() {
+        expungeInUse();
+        if (inUse.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<T> answer = new ArrayList<>(inUse.size());
+        for (InUseReference<T> ref : inUse) {
+            T t = ref.get();
+            if (t != null) {
+                answer.add(t);
+            }
+        }
+        return Collections.unmodifiableList(answer);
+    }
+
+    /**
+     * Marks the object as in use (when statistics is enabled), which should be called when the object is created or
+     * acquired from the pool.
+     */
+    protected void onAcquired(T t) {
+        if (statisticsEnabled) {
+            expungeInUse();
+            inUse.add(new InUseReference<>(t, inUseQueue));
+        }
+    }
+
+    /**
+     * Marks the object as no longer in use (when statistics is enabled), which should be called when the object is
+     * released back to the pool.
+     */
+    protected void onReleased(T t) {
+        if (statisticsEnabled) {
+            inUse.remove(new InUseReference<>(t, null));
+        }
+    }
+
+    private void expungeInUse() {
+        // remove the objects which has been garbage collected (leaked and no longer referenced)
+        Reference<? extends T> ref;
+        while ((ref = inUseQueue.poll()) != null) {
+            inUse.remove(ref);
+        }
+    }
+
+    private void clearInUse() {
+        inUse.clear();
+        while (inUseQueue.poll() != null) {
+            // discard
+        }
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         super.doShutdown();
@@ -129,6 +197,7 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
             pool.clear();
             pool = null;
         }
+        clearInUse();
     }
 
     /**
@@ -171,4 +240,34 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
 
     }
 
+    /**
+     * Weak reference to an object in use, which is equal to other references to the same object instance.
+     */
+    private static final class InUseReference<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        InUseReference(T referent, ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InUseReference)) {
+                return false;
+            }
+            Object t = get();
+            return t != null && t == ((InUseReference<?>) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
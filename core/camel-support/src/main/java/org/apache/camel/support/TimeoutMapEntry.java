@@ -29,6 +29,11 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     private long timeout;
     private long expireTime;
 
+    // links into the timing wheel bucket when used by a DefaultTimeoutMap with timing wheel enabled
+    TimeoutMapEntry<K, V> wheelPrev;
+    TimeoutMapEntry<K, V> wheelNext;
+    int wheelBucket = -1;
+
     public TimeoutMapEntry(K id, V handler, long timeout) {
         this.key = id;
         this.value = handler;
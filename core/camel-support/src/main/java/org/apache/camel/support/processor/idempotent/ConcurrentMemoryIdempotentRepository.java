@@ -0,0 +1,319 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link org.apache.camel.spi.IdempotentRepository} which is designed for high
+ * concurrency.
+ * <p/>
+ * The keys are spread over a number of segments (lock striping) where each segment is a bounded LRU cache guarded by
+ * its own lock, so threads adding different keys rarely contend with each other. The maximum size is therefore
+ * enforced per segment, which makes the eviction an approximate LRU across the whole repository.
+ * <p/>
+ * Each key can optionally expire after a given time to live. Expired keys are treated as absent and are removed lazily
+ * when they are accessed, or when their segment is full.
+ */
+@ManagedResource(description = "Concurrent memory based idempotent repository")
+public class ConcurrentMemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private int maximumSize = 1000;
+    private long timeToLive;
+    private int concurrencyLevel = 16;
+    private volatile Segment[] segments;
+
+    public ConcurrentMemoryIdempotentRepository() {
+        this.segments = createSegments();
+    }
+
+    public ConcurrentMemoryIdempotentRepository(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.segments = createSegments();
+    }
+
+    public ConcurrentMemoryIdempotentRepository(int maximumSize, long timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.segments = createSegments();
+    }
+
+    /**
+     * Creates a new concurrent memory based repository with a default of 1000 entries.
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository() {
+        return new ConcurrentMemoryIdempotentRepository();
+    }
+
+    /**
+     * Creates a new concurrent memory based repository.
+     *
+     * @param maximumSize the maximum number of keys to keep
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository(int maximumSize) {
+        return new ConcurrentMemoryIdempotentRepository(maximumSize);
+    }
+
+    /**
+     * Creates a new concurrent memory based repository where the keys expire.
+     *
+     * @param maximumSize the maximum number of keys to keep
+     * @param timeToLive  time in millis a key is kept before it expires, use 0 to never expire
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository(int maximumSize, long timeToLive) {
+        return new ConcurrentMemoryIdempotentRepository(maximumSize, timeToLive);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        Segment segment = segmentFor(key);
+        long now = System.currentTimeMillis();
+        segment.lock.lock();
+        try {
+            Long expires = segment.get(key);
+            if (expires != null && !isExpired(expires, now)) {
+                hits.increment();
+                return false;
+            }
+            if (expires != null) {
+                expirations.increment();
+            }
+            misses.increment();
+            segment.put(key, timeToLive > 0 ? now + timeToLive : 0L);
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            Long expires = segment.get(key);
+            if (expires == null) {
+                misses.increment();
+                return false;
+            }
+            if (isExpired(expires, System.currentTimeMillis())) {
+                segment.remove(key);
+                expirations.increment();
+                misses.increment();
+                return false;
+            }
+            hits.increment();
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            return segment.remove(key) != null;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        expirations.reset();
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    @ManagedAttribute(description = "The maximum cache size")
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of keys to keep. When the repository is full then the least recently used keys are
+     * evicted.
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @ManagedAttribute(description = "Time in millis a key is kept before it expires")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time in millis a key is kept before it expires. Use 0 (default) to never expire.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public int getConcurrencyLevel() {
+        return concurrencyLevel;
+    }
+
+    /**
+     * Sets the number of segments the keys are spread over, which is rounded up to a power of two. A higher number
+     * lowers lock contention at the cost of a less accurate LRU eviction. The default is 16.
+     */
+    public void setConcurrencyLevel(int concurrencyLevel) {
+        this.concurrencyLevel = concurrencyLevel;
+    }
+
+    @ManagedAttribute(description = "Number of lookups where the key was found")
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @ManagedAttribute(description = "Number of lookups where the key was not found")
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @ManagedAttribute(description = "Number of keys evicted because the cache was full")
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @ManagedAttribute(description = "Number of keys removed because they expired")
+    public long getExpiredCount() {
+        return expirations.sum();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // the options may have been configured after creation
+        segments = createSegments();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        clear();
+    }
+
+    private Segment segmentFor(String key) {
+        Segment[] arr = segments;
+        int h = key.hashCode();
+        // spread the higher bits as the segment count is a power of two
+        h ^= h >>> 16;
+        return arr[h & (arr.length - 1)];
+    }
+
+    private boolean isExpired(long expires, long now) {
+        return expires > 0 && expires <= now;
+    }
+
+    private Segment[] createSegments() {
+        int count = 1;
+        while (count < concurrencyLevel) {
+            count <<= 1;
+        }
+        // do not use more segments than keys
+        while (count > 1 && count > maximumSize) {
+            count >>>= 1;
+        }
+        int capacity = Math.max(1, (maximumSize + count - 1) / count);
+        Segment[] answer = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            answer[i] = new Segment(capacity);
+        }
+        return answer;
+    }
+
+    /**
+     * A bounded LRU segment guarded by its own lock, holding the expiry time per key (0 = never).
+     */
+    private final class Segment extends LinkedHashMap<String, Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            if (size() > capacity) {
+                if (isExpired(eldest.getValue(), System.currentTimeMillis())) {
+                    expirations.increment();
+                } else {
+                    evictions.increment();
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,671 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys in an
+ * append-only journal.
+ * <p/>
+ * Unlike {@link FileIdempotentRepository} the file is never rewritten when a key is added or removed. Added keys are
+ * appended as <tt>+key</tt> records and removed keys as <tt>-key</tt> tombstones. All the live keys are kept in memory,
+ * so lookups never scan the file.
+ * <p/>
+ * Writes are group committed: the records are buffered and written and synced to disk by a background task every
+ * {@link #getSyncInterval()} millis, or as soon as {@link #getSyncBatchSize()} records are pending. Set the sync
+ * interval to 0 to write and sync every record before returning, at the cost of throughput. When the number of
+ * tombstones reaches the {@link #getCompactionThreshold()} the journal is compacted in the background into a new file
+ * holding only the live keys, which is also what makes the next startup fast.
+ * <p/>
+ * The background tasks require a {@link CamelContext}; without one every record is synced before returning and
+ * compaction runs in the calling thread.
+ */
+@ManagedResource(description = "Journal file based idempotent repository")
+public class JournalFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JournalFileIdempotentRepository.class);
+
+    private static final byte ADD = '+';
+    private static final byte REMOVE = '-';
+    private static final byte DELIMITER = '\n';
+
+    private final Lock lock = new ReentrantLock();
+    private final Set<String> keys = new LinkedHashSet<>();
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private final AtomicLong compactionCounter = new AtomicLong();
+
+    private CamelContext camelContext;
+    private File fileStore;
+    private long maxEntries;
+    private long syncInterval = 1000;
+    private int syncBatchSize = 1000;
+    private long compactionThreshold = 10000;
+
+    // the following state is guarded by the lock
+    private FileChannel channel;
+    private int pendingRecords;
+    private long tombstones;
+    private long generation;
+    private boolean compacting;
+    private boolean compactionScheduled;
+    private ByteArrayOutputStream compactionTail;
+    private long compactionTailTombstones;
+
+    private ScheduledExecutorService executorService;
+
+    public JournalFileIdempotentRepository() {
+    }
+
+    public JournalFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new journal file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository journalFileIdempotentRepository(File fileStore) {
+        return new JournalFileIdempotentRepository(fileStore);
+    }
+
+    /**
+     * Creates a new journal file based repository which keeps at most the given number of keys.
+     *
+     * @param fileStore  the file store
+     * @param maxEntries the maximum number of keys, the oldest keys are removed when exceeded
+     */
+    public static IdempotentRepository journalFileIdempotentRepository(File fileStore, long maxEntries) {
+        JournalFileIdempotentRepository repository = new JournalFileIdempotentRepository(fileStore);
+        repository.setMaxEntries(maxEntries);
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        lock.lock();
+        try {
+            if (!keys.add(key)) {
+                return false;
+            }
+            journal(ADD, key);
+            if (maxEntries > 0) {
+                Iterator<String> it = keys.iterator();
+                while (keys.size() > maxEntries && it.hasNext()) {
+                    String oldest = it.next();
+                    it.remove();
+                    journal(REMOVE, oldest);
+                }
+            }
+            afterJournal();
+        } finally {
+            lock.unlock();
+        }
+        checkCompaction();
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        lock.lock();
+        try {
+            return keys.contains(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        lock.lock();
+        try {
+            if (!keys.remove(key)) {
+                return false;
+            }
+            journal(REMOVE, key);
+            afterJournal();
+        } finally {
+            lock.unlock();
+        }
+        checkCompaction();
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.lock();
+        try {
+            keys.clear();
+            pending.reset();
+            pendingRecords = 0;
+            tombstones = 0;
+            // any running compaction is now outdated
+            generation++;
+            if (channel != null) {
+                channel.truncate(0);
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes and syncs the pending records to the file store.
+     */
+    @ManagedOperation(description = "Writes and syncs the pending records to the file store")
+    public void flush() {
+        lock.lock();
+        try {
+            doFlush();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the file store so it only holds the live keys.
+     */
+    @ManagedOperation(description = "Compacts the file store so it only holds the live keys")
+    public void compact() {
+        List<String> snapshot;
+        long gen;
+        lock.lock();
+        try {
+            if (compacting || channel == null) {
+                return;
+            }
+            doFlush();
+            snapshot = new ArrayList<>(keys);
+            gen = generation;
+            compacting = true;
+            compactionTail = new ByteArrayOutputStream();
+            compactionTailTombstones = 0;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+
+        LOG.debug("Compacting idempotent filestore: {} with {} live keys", fileStore, snapshot.size());
+        File tmp = new File(fileStore.getPath() + ".compact");
+        boolean done = false;
+        try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // write the snapshot without holding the lock so adds and removes can continue
+            OutputStream os = new BufferedOutputStream(Channels.newOutputStream(out), 64 * 1024);
+            for (String key : snapshot) {
+                writeRecord(os, ADD, key);
+            }
+            os.flush();
+
+            lock.lock();
+            try {
+                if (gen == generation) {
+                    // append the records journaled while compacting, they are still pending for the old file
+                    writeFully(out, compactionTail.toByteArray());
+                    out.force(true);
+                    IOHelper.close(channel, "Closing journal file idempotent repository", LOG);
+                    moveFile(tmp, fileStore);
+                    channel = openChannel();
+                    pending.reset();
+                    pendingRecords = 0;
+                    tombstones = compactionTailTombstones;
+                    done = true;
+                }
+            } finally {
+                compacting = false;
+                compactionTail = null;
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            LOG.warn("Error compacting idempotent filestore: {} due to {}. This exception is ignored.", fileStore,
+                    e.getMessage(), e);
+            lock.lock();
+            try {
+                compacting = false;
+                compactionTail = null;
+                if (channel == null || !channel.isOpen()) {
+                    // the old file could not be replaced so continue appending to it
+                    channel = openChannel();
+                }
+            } catch (IOException e2) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e2);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            FileUtil.deleteFile(tmp);
+        }
+
+        if (done) {
+            compactionCounter.incrementAndGet();
+            LOG.debug("Compacted idempotent filestore: {}", fileStore);
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The maximum number of keys to keep")
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of keys to keep. When exceeded the oldest keys are removed. You can set the value to 0 or
+     * negative to turn this off, which is the default.
+     */
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @ManagedAttribute(description = "Interval in millis between writing and syncing the pending records")
+    public long getSyncInterval() {
+        return syncInterval;
+    }
+
+    /**
+     * Sets the interval in millis between writing and syncing the pending records to disk. Records which have not been
+     * synced are lost if the JVM crashes. Set the value to 0 to sync every record before returning.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setSyncInterval(long syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    @ManagedAttribute(description = "Number of pending records which triggers writing and syncing")
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+
+    /**
+     * Sets the number of pending records which triggers writing and syncing them to disk, without waiting for the
+     * sync interval.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+
+    @ManagedAttribute(description = "Number of tombstones which triggers compaction")
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the number of tombstones (removed keys) in the file store which triggers compaction. Set the value to 0 or
+     * negative to only compact on demand.
+     * <p/>
+     * The default is 10000.
+     */
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ManagedAttribute(description = "The current number of keys")
+    public int getCacheSize() {
+        lock.lock();
+        try {
+            return keys.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The current number of tombstones in the file store")
+    public long getTombstoneCount() {
+        lock.lock();
+        try {
+            return tombstones;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The current number of records not yet synced to the file store")
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pendingRecords;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of times the file store has been compacted")
+    public long getCompactionCount() {
+        return compactionCounter.get();
+    }
+
+    /**
+     * Adds the record to the pending records. Must be called while holding the lock.
+     */
+    private void journal(byte op, String key) {
+        try {
+            writeRecord(pending, op, key);
+            if (compactionTail != null) {
+                writeRecord(compactionTail, op, key);
+                if (op == REMOVE) {
+                    compactionTailTombstones++;
+                }
+            }
+        } catch (IOException e) {
+            // cannot happen with byte array streams
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        pendingRecords++;
+        if (op == REMOVE) {
+            tombstones++;
+        }
+    }
+
+    /**
+     * Writes the pending records if they should not wait for the background task. Must be called while holding the
+     * lock.
+     */
+    private void afterJournal() {
+        if (executorService == null || syncInterval <= 0 || pendingRecords >= syncBatchSize) {
+            try {
+                doFlush();
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+    }
+
+    private void checkCompaction() {
+        boolean compact;
+        boolean background = executorService != null;
+        lock.lock();
+        try {
+            compact = isCompactionNeeded() && !compactionScheduled;
+            if (compact && background) {
+                // only schedule one compaction at a time
+                compactionScheduled = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (compact) {
+            if (background) {
+                try {
+                    executorService.submit(this::doScheduledCompact);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Cannot compact idempotent filestore: {} as the repository is stopping", fileStore);
+                    lock.lock();
+                    try {
+                        compactionScheduled = false;
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            } else {
+                compact();
+            }
+        }
+    }
+
+    private void doScheduledCompact() {
+        boolean compact;
+        lock.lock();
+        try {
+            compactionScheduled = false;
+            // a previous compaction may already have removed the tombstones
+            compact = isCompactionNeeded();
+        } finally {
+            lock.unlock();
+        }
+        if (compact) {
+            compact();
+        }
+    }
+
+    private boolean isCompactionNeeded() {
+        return compactionThreshold > 0 && tombstones >= compactionThreshold && !compacting;
+    }
+
+    /**
+     * Writes and syncs the pending records. Must be called while holding the lock.
+     */
+    private void doFlush() throws IOException {
+        if (pendingRecords == 0 || channel == null) {
+            return;
+        }
+        LOG.trace("Writing {} records to idempotent filestore: {}", pendingRecords, fileStore);
+        writeFully(channel, pending.toByteArray());
+        channel.force(false);
+        pending.reset();
+        pendingRecords = 0;
+    }
+
+    private FileChannel openChannel() throws IOException {
+        return FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private static void writeRecord(OutputStream os, byte op, String key) throws IOException {
+        os.write(op);
+        os.write(key.getBytes(StandardCharsets.UTF_8));
+        os.write(DELIMITER);
+    }
+
+    private static void writeFully(FileChannel channel, byte[] data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void moveFile(File from, File to) throws IOException {
+        try {
+            Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads the keys from the file store by replaying the journal
+     */
+    protected void loadStore() throws IOException {
+        // auto create starting directory if needed
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating filestore directory: {}", parent);
+            if (!parent.mkdirs()) {
+                LOG.warn("Cannot create the filestore directory at: {}", parent);
+            }
+        }
+
+        keys.clear();
+        tombstones = 0;
+        // the length of the journal up to and including the last complete record
+        long length = 0;
+        if (fileStore.exists()) {
+            LOG.trace("Loading keys from idempotent filestore: {}", fileStore);
+            try (InputStream is = new BufferedInputStream(Files.newInputStream(fileStore.toPath()))) {
+                ByteArrayOutputStream record = new ByteArrayOutputStream();
+                long position = 0;
+                int b;
+                while ((b = is.read()) != -1) {
+                    position++;
+                    if (b == DELIMITER) {
+                        replayRecord(new String(record.toByteArray(), StandardCharsets.UTF_8));
+                        record.reset();
+                        length = position;
+                    } else {
+                        record.write(b);
+                    }
+                }
+            }
+        }
+        channel = openChannel();
+        if (channel.size() > length) {
+            // the last record was torn by a crash while appending, so it is not a key and must not be
+            // continued by the next record
+            LOG.warn("Discarding incomplete last record ({} bytes) in idempotent filestore: {}", channel.size() - length,
+                    fileStore);
+            channel.truncate(length);
+        }
+
+        LOG.debug("Loaded {} keys ({} tombstones) from idempotent filestore: {}", keys.size(), tombstones, fileStore);
+    }
+
+    private void replayRecord(String record) {
+        if (record.isEmpty()) {
+            return;
+        }
+        char op = record.charAt(0);
+        String key = record.substring(1);
+        if (op == ADD) {
+            keys.add(key);
+        } else if (op == REMOVE) {
+            keys.remove(key);
+            tombstones++;
+        } else {
+            LOG.debug("Skipping invalid record: {} in idempotent filestore: {}", record, fileStore);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        lock.lock();
+        try {
+            loadStore();
+        } finally {
+            lock.unlock();
+        }
+
+        if (camelContext != null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "JournalFileIdempotentRepository");
+            if (syncInterval > 0) {
+                executorService.scheduleWithFixedDelay(this::flushTask, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        // compact on startup so the next startup only needs to read the live keys
+        checkCompaction();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+
+        lock.lock();
+        try {
+            doFlush();
+            IOHelper.close(channel, "Closing journal file idempotent repository", LOG);
+            channel = null;
+            keys.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushTask() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LOG.warn("Error writing to idempotent filestore: {} due to {}. This exception is ignored.", fileStore,
+                    e.getMessage(), e);
+        }
+    }
+
+}
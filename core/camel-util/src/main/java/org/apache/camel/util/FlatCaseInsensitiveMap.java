@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, and which stores its entries in flat
+ * arrays instead of entry objects.
+ * <p/>
+ * The entries are kept in insertion order in parallel arrays of keys, values and pre-computed case insensitive hash
+ * codes, with an open addressing index on top for O(1) lookup. Copying a map (using the copy constructor, or
+ * {@link #putAll(Map)} on an empty map) shares the arrays between the maps, which are then copied on the first write
+ * to either map (copy-on-write).
+ * <p/>
+ * Keys are compared in the same way as {@link CaseInsensitiveMap} does, using {@link String#CASE_INSENSITIVE_ORDER}
+ * semantics, and <tt>null</tt> keys are not supported.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine. However maps which share arrays may be used by different threads.
+ */
+public class FlatCaseInsensitiveMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 3340391254307398557L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Table table;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public FlatCaseInsensitiveMap() {
+        this.table = new Table(DEFAULT_CAPACITY);
+    }
+
+    public FlatCaseInsensitiveMap(Map<? extends String, ?> map) {
+        if (map instanceof FlatCaseInsensitiveMap) {
+            this.table = ((FlatCaseInsensitiveMap) map).share();
+        } else {
+            this.table = new Table(Math.max(DEFAULT_CAPACITY, map.size()));
+            putAll(map);
+        }
+    }
+
+    @Override
+    public int size() {
+        return table.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && table.find((String) key, hash((String) key)) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            Table t = table;
+            int pos = t.find((String) key, hash((String) key));
+            if (pos >= 0) {
+                return t.values[pos];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int hash = hash(key);
+        Table t = writable();
+        int pos = t.find(key, hash);
+        if (pos >= 0) {
+            // keep the original key as TreeMap does
+            Object answer = t.values[pos];
+            t.values[pos] = value;
+            return answer;
+        }
+        if (t.used == t.keys.length) {
+            // compact if there are many removed entries, otherwise grow
+            t = table = t.resize(t.size * 2 >= t.keys.length ? t.keys.length * 2 : t.keys.length);
+        }
+        t.insert(key, hash, value);
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof FlatCaseInsensitiveMap && table.size == 0) {
+            // such as when copying a message so share until either map is changed
+            table = ((FlatCaseInsensitiveMap) map).share();
+        } else {
+            for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int hash = hash((String) key);
+        if (table.find((String) key, hash) < 0) {
+            return null;
+        }
+        Table t = writable();
+        return t.removeAt(t.find((String) key, hash));
+    }
+
+    @Override
+    public void clear() {
+        if (table.shared) {
+            table = new Table(DEFAULT_CAPACITY);
+        } else if (table.size > 0 || table.used > 0) {
+            table.clear();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Table share() {
+        table.shared = true;
+        return table;
+    }
+
+    private Table writable() {
+        if (table.shared) {
+            table = table.copy();
+        }
+        return table;
+    }
+
+    /**
+     * Computes a hash code that is the same for keys which are equal ignoring case.
+     */
+    static int hash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * The arrays holding the entries, which can be shared between maps.
+     */
+    private static final class Table implements Serializable {
+
+        private static final long serialVersionUID = -2158411012837654092L;
+
+        // entries in insertion order, a null key is a removed entry
+        String[] keys;
+        Object[] values;
+        int[] hashes;
+        // open addressing index with the entry position + 1, or 0 for free slots
+        int[] index;
+        // number of entry positions in use, including removed entries
+        int used;
+        int size;
+        // whether this table is shared by several maps, and must be copied before changing it
+        transient boolean shared;
+
+        Table(int capacity) {
+            keys = new String[capacity];
+            values = new Object[capacity];
+            hashes = new int[capacity];
+            index = new int[indexSize(capacity)];
+        }
+
+        private static int indexSize(int capacity) {
+            // keep the load factor of the index at most 0.5
+            return Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2;
+        }
+
+        int find(String key, int hash) {
+            int mask = index.length - 1;
+            int i = hash & mask;
+            for (;;) {
+                int slot = index[i];
+                if (slot == 0) {
+                    return -1;
+                }
+                int pos = slot - 1;
+                if (hashes[pos] == hash) {
+                    String k = keys[pos];
+                    if (k != null && (k == key || k.equalsIgnoreCase(key))) {
+                        return pos;
+                    }
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        void insert(String key, int hash, Object value) {
+            int pos = used++;
+            keys[pos] = key;
+            values[pos] = value;
+            hashes[pos] = hash;
+            addToIndex(hash, pos);
+            size++;
+        }
+
+        private void addToIndex(int hash, int pos) {
+            int mask = index.length - 1;
+            int i = hash & mask;
+            while (index[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            index[i] = pos + 1;
+        }
+
+        Object removeAt(int pos) {
+            // the index slot is kept so lookups continue probing past the removed entry
+            Object answer = values[pos];
+            keys[pos] = null;
+            values[pos] = null;
+            size--;
+            return answer;
+        }
+
+        void clear() {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(index, 0);
+            used = 0;
+            size = 0;
+        }
+
+        /**
+         * Creates a new table with the given capacity with only the entries which are not removed.
+         */
+        Table resize(int capacity) {
+            Table answer = new Table(capacity);
+            for (int pos = 0; pos < used; pos++) {
+                if (keys[pos] != null) {
+                    answer.insert(keys[pos], hashes[pos], values[pos]);
+                }
+            }
+            return answer;
+        }
+
+        /**
+         * Creates an exact copy, so entry positions are the same in the copy.
+         */
+        Table copy() {
+            Table answer = new Table(0);
+            answer.keys = keys.clone();
+            answer.values = values.clone();
+            answer.hashes = hashes.clone();
+            answer.index = index.clone();
+            answer.used = used;
+            answer.size = size;
+            return answer;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return table.size;
+        }
+
+        @Override
+        public void clear() {
+            FlatCaseInsensitiveMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            Table t = table;
+            while (next < t.used && t.keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < table.used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            advance();
+            return new FlatEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            // positions are kept when copying on write
+            writable().removeAt(last);
+            last = -1;
+        }
+    }
+
+    private final class FlatEntry implements Map.Entry<String, Object> {
+
+        private final int pos;
+        private final String key;
+
+        FlatEntry(int pos) {
+            this.pos = pos;
+            this.key = table.keys[pos];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return table.values[pos];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Table t = writable();
+            Object answer = t.values[pos];
+            t.values[pos] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
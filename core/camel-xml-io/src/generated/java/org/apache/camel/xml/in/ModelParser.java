@@ -89,6 +89,7 @@ public class ModelParser extends BaseParser {
                 case "completionSize": def.setCompletionSize(val); break;
                 case "completionTimeout": def.setCompletionTimeout(val); break;
                 case "completionTimeoutCheckerInterval": def.setCompletionTimeoutCheckerInterval(val); break;
+                case "completionTimeoutCheckerTimingWheel": def.setCompletionTimeoutCheckerTimingWheel(val); break;
                 case "discardOnAggregationFailure": def.setDiscardOnAggregationFailure(val); break;
                 case "discardOnCompletionTimeout": def.setDiscardOnCompletionTimeout(val); break;
                 case "eagerCheckCompletion": def.setEagerCheckCompletion(val); break;
@@ -97,6 +98,7 @@ public class ModelParser extends BaseParser {
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
+                case "shards": def.setShards(val); break;
                 case "strategyMethodAllowNull": def.setStrategyMethodAllowNull(val); break;
                 case "strategyMethodName": def.setStrategyMethodName(val); break;
                 case "strategyRef": def.setStrategyRef(val); break;
@@ -1334,6 +1336,7 @@ public class ModelParser extends BaseParser {
                 case "onPrepareRef": def.setOnPrepareRef(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
+                case "parallelWindowSize": def.setParallelWindowSize(val); break;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); break;
                 case "stopOnAggregateException": def.setStopOnAggregateException(val); break;
                 case "stopOnException": def.setStopOnException(val); break;
@@ -1341,6 +1344,7 @@ public class ModelParser extends BaseParser {
                 case "strategyMethodName": def.setStrategyMethodName(val); break;
                 case "strategyRef": def.setStrategyRef(val); break;
                 case "streaming": def.setStreaming(val); break;
+                case "streamingOrdered": def.setStreamingOrdered(val); break;
                 case "timeout": def.setTimeout(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
@@ -2185,6 +2189,7 @@ public class ModelParser extends BaseParser {
                 case "enableFeatures": def.setEnableFeatures(val); break;
                 case "include": def.setInclude(val); break;
                 case "jsonView": def.setJsonViewTypeName(val); break;
+                case "lazyLoad": def.setLazyLoad(val); break;
                 case "library": def.setLibrary(JsonLibrary.valueOf(val)); break;
                 case "moduleClassNames": def.setModuleClassNames(val); break;
                 case "moduleRefs": def.setModuleRefs(val); break;
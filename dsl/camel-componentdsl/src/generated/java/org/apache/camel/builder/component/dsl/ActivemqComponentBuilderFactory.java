@@ -1674,6 +1674,26 @@ public interface ActivemqComponentBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default ActivemqComponentBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -2119,6 +2139,7 @@ public interface ActivemqComponentBuilderFactory {
             case "receiveTimeout": getOrCreateConfiguration((ActiveMQComponent) component).setReceiveTimeout((long) value); return true;
             case "recoveryInterval": getOrCreateConfiguration((ActiveMQComponent) component).setRecoveryInterval((long) value); return true;
             case "requestTimeoutCheckerInterval": getOrCreateConfiguration((ActiveMQComponent) component).setRequestTimeoutCheckerInterval((long) value); return true;
+            case "requestTimeoutCheckerTimingWheel": getOrCreateConfiguration((ActiveMQComponent) component).setRequestTimeoutCheckerTimingWheel((boolean) value); return true;
             case "synchronous": getOrCreateConfiguration((ActiveMQComponent) component).setSynchronous((boolean) value); return true;
             case "transferException": getOrCreateConfiguration((ActiveMQComponent) component).setTransferException((boolean) value); return true;
             case "transferExchange": getOrCreateConfiguration((ActiveMQComponent) component).setTransferExchange((boolean) value); return true;
@@ -1621,6 +1621,26 @@ public interface AmqpComponentBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AmqpComponentBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -2042,6 +2062,7 @@ public interface AmqpComponentBuilderFactory {
             case "receiveTimeout": getOrCreateConfiguration((AMQPComponent) component).setReceiveTimeout((long) value); return true;
             case "recoveryInterval": getOrCreateConfiguration((AMQPComponent) component).setRecoveryInterval((long) value); return true;
             case "requestTimeoutCheckerInterval": getOrCreateConfiguration((AMQPComponent) component).setRequestTimeoutCheckerInterval((long) value); return true;
+            case "requestTimeoutCheckerTimingWheel": getOrCreateConfiguration((AMQPComponent) component).setRequestTimeoutCheckerTimingWheel((boolean) value); return true;
             case "synchronous": getOrCreateConfiguration((AMQPComponent) component).setSynchronous((boolean) value); return true;
             case "transferException": getOrCreateConfiguration((AMQPComponent) component).setTransferException((boolean) value); return true;
             case "transferExchange": getOrCreateConfiguration((AMQPComponent) component).setTransferExchange((boolean) value); return true;
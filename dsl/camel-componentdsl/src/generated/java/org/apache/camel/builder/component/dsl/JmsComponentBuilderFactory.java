@@ -1602,6 +1602,26 @@ public interface JmsComponentBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default JmsComponentBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -2022,6 +2042,7 @@ public interface JmsComponentBuilderFactory {
             case "receiveTimeout": getOrCreateConfiguration((JmsComponent) component).setReceiveTimeout((long) value); return true;
             case "recoveryInterval": getOrCreateConfiguration((JmsComponent) component).setRecoveryInterval((long) value); return true;
             case "requestTimeoutCheckerInterval": getOrCreateConfiguration((JmsComponent) component).setRequestTimeoutCheckerInterval((long) value); return true;
+            case "requestTimeoutCheckerTimingWheel": getOrCreateConfiguration((JmsComponent) component).setRequestTimeoutCheckerTimingWheel((boolean) value); return true;
             case "synchronous": getOrCreateConfiguration((JmsComponent) component).setSynchronous((boolean) value); return true;
             case "transferException": getOrCreateConfiguration((JmsComponent) component).setTransferException((boolean) value); return true;
             case "transferExchange": getOrCreateConfiguration((JmsComponent) component).setTransferExchange((boolean) value); return true;
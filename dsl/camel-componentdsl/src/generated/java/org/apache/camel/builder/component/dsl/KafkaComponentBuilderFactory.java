@@ -612,6 +612,49 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("offsetRepository", offsetRepository);
             return this;
         }
+        /**
+         * When processing records in parallel (see parallelProcessingThreads),
+         * then whether records are processed in order per partition, or per
+         * message key. Ordering by key allows records from the same partition
+         * to be processed in parallel, while records with the same key are
+         * processed in order. Records without a key are processed in order of
+         * their partition. The possible values are: partition or key.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: partition
+         * Group: consumer
+         * 
+         * @param parallelProcessingOrder the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelProcessingOrder(
+                java.lang.String parallelProcessingOrder) {
+            doSetProperty("parallelProcessingOrder", parallelProcessingOrder);
+            return this;
+        }
+        /**
+         * The number of threads each consumer uses to process the polled
+         * records in parallel. By default (0) the records are processed one at
+         * a time by the consumer thread that polled them. When parallel
+         * processing is enabled, then the records are still processed in order
+         * for each partition (or key, see parallelProcessingOrder), and the
+         * consumer commits the offset of the records of each partition that
+         * have all been processed. Parallel processing cannot be used together
+         * with breakOnFirstError or allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelProcessingThreads(
+                int parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
         /**
          * The class name of the partition assignment strategy that the client
          * will use to distribute partition ownership amongst consumer instances
@@ -1064,6 +1107,26 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("maxInFlightRequest", maxInFlightRequest);
             return this;
         }
+        /**
+         * The maximum number of exchanges the KafkaProducer has sent using
+         * asynchronous non-blocking processing, and which are waiting for the
+         * kafka server to acknowledge them. When the maximum is reached, then
+         * the next exchange is sent when a pending exchange has been
+         * acknowledged, without blocking the thread routing the exchange. By
+         * default (0) there is no maximum.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param maxPendingExchanges the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder maxPendingExchanges(
+                int maxPendingExchanges) {
+            doSetProperty("maxPendingExchanges", maxPendingExchanges);
+            return this;
+        }
         /**
          * The maximum size of a request. This is also effectively a cap on the
          * maximum record size. Note that the server has its own cap on record
@@ -2037,6 +2100,8 @@ public interface KafkaComponentBuilderFactory {
             case "maxPollIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setMaxPollIntervalMs((java.lang.Long) value); return true;
             case "maxPollRecords": getOrCreateConfiguration((KafkaComponent) component).setMaxPollRecords((java.lang.Integer) value); return true;
             case "offsetRepository": getOrCreateConfiguration((KafkaComponent) component).setOffsetRepository((org.apache.camel.spi.StateRepository) value); return true;
+            case "parallelProcessingOrder": getOrCreateConfiguration((KafkaComponent) component).setParallelProcessingOrder((java.lang.String) value); return true;
+            case "parallelProcessingThreads": getOrCreateConfiguration((KafkaComponent) component).setParallelProcessingThreads((int) value); return true;
             case "partitionAssignor": getOrCreateConfiguration((KafkaComponent) component).setPartitionAssignor((java.lang.String) value); return true;
             case "pollOnError": getOrCreateConfiguration((KafkaComponent) component).setPollOnError((org.apache.camel.component.kafka.PollOnError) value); return true;
             case "pollTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setPollTimeoutMs((java.lang.Long) value); return true;
@@ -2060,6 +2125,7 @@ public interface KafkaComponentBuilderFactory {
             case "lingerMs": getOrCreateConfiguration((KafkaComponent) component).setLingerMs((java.lang.Integer) value); return true;
             case "maxBlockMs": getOrCreateConfiguration((KafkaComponent) component).setMaxBlockMs((java.lang.Integer) value); return true;
             case "maxInFlightRequest": getOrCreateConfiguration((KafkaComponent) component).setMaxInFlightRequest((java.lang.Integer) value); return true;
+            case "maxPendingExchanges": getOrCreateConfiguration((KafkaComponent) component).setMaxPendingExchanges((int) value); return true;
             case "maxRequestSize": getOrCreateConfiguration((KafkaComponent) component).setMaxRequestSize((java.lang.Integer) value); return true;
             case "metadataMaxAgeMs": getOrCreateConfiguration((KafkaComponent) component).setMetadataMaxAgeMs((java.lang.Integer) value); return true;
             case "metricReporters": getOrCreateConfiguration((KafkaComponent) component).setMetricReporters((java.lang.String) value); return true;
@@ -2225,6 +2225,46 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointConsumerBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointConsumerBuilder requestTimeoutCheckerTimingWheel(
+                String requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -4716,6 +4756,46 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointProducerBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointProducerBuilder requestTimeoutCheckerTimingWheel(
+                String requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -6319,6 +6399,46 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointBuilder requestTimeoutCheckerTimingWheel(
+                String requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
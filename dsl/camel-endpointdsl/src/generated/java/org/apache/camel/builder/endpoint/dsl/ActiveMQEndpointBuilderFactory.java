@@ -2280,6 +2280,46 @@ public interface ActiveMQEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedActiveMQEndpointConsumerBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedActiveMQEndpointConsumerBuilder requestTimeoutCheckerTimingWheel(
+                String requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -4777,6 +4817,46 @@ public interface ActiveMQEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedActiveMQEndpointProducerBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedActiveMQEndpointProducerBuilder requestTimeoutCheckerTimingWheel(
+                String requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -6387,6 +6467,46 @@ public interface ActiveMQEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedActiveMQEndpointBuilder requestTimeoutCheckerTimingWheel(
+                boolean requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to track pending replies in a timing wheel instead of
+         * checking every pending reply for timeout on each run of the timeout
+         * checker. This is faster when there are many pending replies at the
+         * same time, at the cost of timeouts being detected up to one
+         * requestTimeoutCheckerInterval later.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutCheckerTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedActiveMQEndpointBuilder requestTimeoutCheckerTimingWheel(
+                String requestTimeoutCheckerTimingWheel) {
+            doSetProperty("requestTimeoutCheckerTimingWheel", requestTimeoutCheckerTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -2090,6 +2090,55 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("directoryMustExist", directoryMustExist);
             return this;
         }
+        /**
+         * Whether to list the directories using a streaming
+         * java.nio.file.DirectoryStream, which stops listing as soon as the
+         * maxMessagesPerPoll limit is hit, and reads the file attributes in
+         * bulk. When the limit is hit then the consumer remembers where it
+         * stopped in each directory, and the next poll continues from there,
+         * instead of starting over with the first files in the directory.
+         * This is intended for directories with a very large number of files.
+         * This option is not used when preSort or a resume strategy is
+         * configured.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param directoryStream the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryStream(
+                boolean directoryStream) {
+            doSetProperty("directoryStream", directoryStream);
+            return this;
+        }
+        /**
+         * Whether to list the directories using a streaming
+         * java.nio.file.DirectoryStream, which stops listing as soon as the
+         * maxMessagesPerPoll limit is hit, and reads the file attributes in
+         * bulk. When the limit is hit then the consumer remembers where it
+         * stopped in each directory, and the next poll continues from there,
+         * instead of starting over with the first files in the directory.
+         * This is intended for directories with a very large number of files.
+         * This option is not used when preSort or a resume strategy is
+         * configured.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param directoryStream the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryStream(
+                String directoryStream) {
+            doSetProperty("directoryStream", directoryStream);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -2510,6 +2559,94 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to discover new and changed files using the file system
+         * watch service, instead of listing the directory on every poll. A
+         * poll then only considers the files reported by the watch service,
+         * which makes polling idle directories cheap, so a low delay can be
+         * used to pick up new files with low latency. All the files are listed
+         * on the first poll, when the watch service overflows, and periodically
+         * according to the watchReconcileInterval option.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchDirectory the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchDirectory(
+                boolean watchDirectory) {
+            doSetProperty("watchDirectory", watchDirectory);
+            return this;
+        }
+        /**
+         * Whether to discover new and changed files using the file system
+         * watch service, instead of listing the directory on every poll. A
+         * poll then only considers the files reported by the watch service,
+         * which makes polling idle directories cheap, so a low delay can be
+         * used to pick up new files with low latency. All the files are listed
+         * on the first poll, when the watch service overflows, and periodically
+         * according to the watchReconcileInterval option.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchDirectory the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchDirectory(
+                String watchDirectory) {
+            doSetProperty("watchDirectory", watchDirectory);
+            return this;
+        }
+        /**
+         * When watchDirectory is enabled, then the interval in millis for
+         * listing all the files in the directory, to pick up files which have
+         * been missed or could not be consumed when they were reported by the
+         * watch service (such as when a read lock could not be acquired). Use 0
+         * or negative to only list all the files on the first poll and on
+         * overflow.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchReconcileInterval(
+                long watchReconcileInterval) {
+            doSetProperty("watchReconcileInterval", watchReconcileInterval);
+            return this;
+        }
+        /**
+         * When watchDirectory is enabled, then the interval in millis for
+         * listing all the files in the directory, to pick up files which have
+         * been missed or could not be consumed when they were reported by the
+         * watch service (such as when a read lock could not be acquired). Use 0
+         * or negative to only list all the files on the first poll and on
+         * overflow.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt;
+         * type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchReconcileInterval(
+                String watchReconcileInterval) {
+            doSetProperty("watchReconcileInterval", watchReconcileInterval);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
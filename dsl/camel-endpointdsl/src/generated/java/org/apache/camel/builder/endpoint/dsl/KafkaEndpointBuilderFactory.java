@@ -1034,6 +1034,71 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("offsetRepository", offsetRepository);
             return this;
         }
+        /**
+         * When processing records in parallel (see parallelProcessingThreads),
+         * then whether records are processed in order per partition, or per
+         * message key. Ordering by key allows records from the same partition
+         * to be processed in parallel, while records with the same key are
+         * processed in order. Records without a key are processed in order of
+         * their partition. The possible values are: partition or key.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: partition
+         * Group: consumer
+         * 
+         * @param parallelProcessingOrder the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder parallelProcessingOrder(
+                String parallelProcessingOrder) {
+            doSetProperty("parallelProcessingOrder", parallelProcessingOrder);
+            return this;
+        }
+        /**
+         * The number of threads each consumer uses to process the polled
+         * records in parallel. By default (0) the records are processed one at
+         * a time by the consumer thread that polled them. When parallel
+         * processing is enabled, then the records are still processed in order
+         * for each partition (or key, see parallelProcessingOrder), and the
+         * consumer commits the offset of the records of each partition that
+         * have all been processed. Parallel processing cannot be used together
+         * with breakOnFirstError or allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder parallelProcessingThreads(
+                int parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
+        /**
+         * The number of threads each consumer uses to process the polled
+         * records in parallel. By default (0) the records are processed one at
+         * a time by the consumer thread that polled them. When parallel
+         * processing is enabled, then the records are still processed in order
+         * for each partition (or key, see parallelProcessingOrder), and the
+         * consumer commits the offset of the records of each partition that
+         * have all been processed. Parallel processing cannot be used together
+         * with breakOnFirstError or allowManualCommit.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder parallelProcessingThreads(
+                String parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
         /**
          * The class name of the partition assignment strategy that the client
          * will use to distribute partition ownership amongst consumer instances
@@ -2614,6 +2679,46 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("maxInFlightRequest", maxInFlightRequest);
             return this;
         }
+        /**
+         * The maximum number of exchanges the KafkaProducer has sent using
+         * asynchronous non-blocking processing, and which are waiting for the
+         * kafka server to acknowledge them. When the maximum is reached, then
+         * the next exchange is sent when a pending exchange has been
+         * acknowledged, without blocking the thread routing the exchange. By
+         * default (0) there is no maximum.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param maxPendingExchanges the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxPendingExchanges(
+                int maxPendingExchanges) {
+            doSetProperty("maxPendingExchanges", maxPendingExchanges);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges the KafkaProducer has sent using
+         * asynchronous non-blocking processing, and which are waiting for the
+         * kafka server to acknowledge them. When the maximum is reached, then
+         * the next exchange is sent when a pending exchange has been
+         * acknowledged, without blocking the thread routing the exchange. By
+         * default (0) there is no maximum.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param maxPendingExchanges the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointProducerBuilder maxPendingExchanges(
+                String maxPendingExchanges) {
+            doSetProperty("maxPendingExchanges", maxPendingExchanges);
+            return this;
+        }
         /**
          * The maximum size of a request. This is also effectively a cap on the
          * maximum record size. Note that the server has its own cap on record
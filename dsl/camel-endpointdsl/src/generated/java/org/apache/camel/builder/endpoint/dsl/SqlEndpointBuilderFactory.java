@@ -1634,6 +1634,40 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("batch", batch);
             return this;
         }
+        /**
+         * The maximum number of rows to add to the JDBC batch before the batch
+         * is executed, when using batch mode. By default, all the rows of the
+         * message body are executed in one batch, which can use a lot of memory
+         * in the JDBC driver for large bodies.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of rows to add to the JDBC batch before the batch
+         * is executed, when using batch mode. By default, all the rows of the
+         * message body are executed in one batch, which can use a lot of memory
+         * in the JDBC driver for large bodies.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * Whether the producer should be started lazy (on the first message).
          * By starting lazy you can use this to allow CamelContext and routes to
@@ -165,6 +165,48 @@ public interface StubEndpointBuilderFactory {
         default StubEndpointConsumerBuilder basic() {
             return (StubEndpointConsumerBuilder) this;
         }
+        /**
+         * The maximum number of messages to take from the queue in one poll.
+         * When there is more than one message on the queue then the consumer
+         * drains up to this number of messages at once, and processes them
+         * one by one without polling the queue for each message. This reduces
+         * the overhead of the queue when there is a high throughput of
+         * messages. The default value is 1 which polls the queue for each
+         * message.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages to take from the queue in one poll.
+         * When there is more than one message on the queue then the consumer
+         * drains up to this number of messages at once, and processes them
+         * one by one without polling the queue for each message. This reduces
+         * the overhead of the queue when there is a high throughput of
+         * messages. The default value is 1 which polls the queue for each
+         * message.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -389,6 +431,24 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("purgeWhenStopping", purgeWhenStopping);
             return this;
         }
+        /**
+         * The id of a thread pool profile to use for the threads of the
+         * consumers, such as a profile with virtual threads enabled. The pool
+         * size of the profile is set to the number of concurrentConsumers. By
+         * default, a fixed thread pool of regular threads is used.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param threadPoolProfile the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder threadPoolProfile(
+                String threadPoolProfile) {
+            doSetProperty("threadPoolProfile", threadPoolProfile);
+            return this;
+        }
         /**
          * Define the queue instance which will be used by the endpoint.
          * 
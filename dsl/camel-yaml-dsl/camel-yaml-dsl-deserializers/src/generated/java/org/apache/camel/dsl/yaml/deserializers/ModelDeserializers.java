@@ -309,6 +309,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "completion-size-expression", type = "object:org.apache.camel.model.ExpressionSubElementDefinition"),
                     @YamlProperty(name = "completion-timeout", type = "string"),
                     @YamlProperty(name = "completion-timeout-checker-interval", type = "string"),
+                    @YamlProperty(name = "completion-timeout-checker-timing-wheel", type = "boolean"),
                     @YamlProperty(name = "completion-timeout-expression", type = "object:org.apache.camel.model.ExpressionSubElementDefinition"),
                     @YamlProperty(name = "correlation-expression", type = "object:org.apache.camel.model.ExpressionSubElementDefinition"),
                     @YamlProperty(name = "discard-on-aggregation-failure", type = "boolean"),
@@ -321,6 +322,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "optimistic-lock-retry-policy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition"),
                     @YamlProperty(name = "optimistic-locking", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
+                    @YamlProperty(name = "shards", type = "number"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
                     @YamlProperty(name = "strategy-method-allow-null", type = "boolean"),
                     @YamlProperty(name = "strategy-method-name", type = "string"),
@@ -402,6 +404,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setCompletionTimeoutCheckerInterval(val);
                     break;
                 }
+                case "completion-timeout-checker-timing-wheel": {
+                    String val = asText(node);
+                    target.setCompletionTimeoutCheckerTimingWheel(val);
+                    break;
+                }
                 case "completion-timeout-expression": {
                     org.apache.camel.model.ExpressionSubElementDefinition val = asType(node, org.apache.camel.model.ExpressionSubElementDefinition.class);
                     target.setCompletionTimeoutExpression(val);
@@ -462,6 +469,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setParallelProcessing(val);
                     break;
                 }
+                case "shards": {
+                    String val = asText(node);
+                    target.setShards(val);
+                    break;
+                }
                 case "strategy-method-allow-null": {
                     String val = asText(node);
                     target.setStrategyMethodAllowNull(val);
@@ -7274,6 +7286,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "include", type = "string"),
                     @YamlProperty(name = "json-view", type = "string"),
+                    @YamlProperty(name = "lazy-load", type = "boolean"),
                     @YamlProperty(name = "library", type = "enum:Fastjson,Gson,Jackson,Johnzon,Jsonb,XStream"),
                     @YamlProperty(name = "module-class-names", type = "string"),
                     @YamlProperty(name = "module-refs", type = "string"),
@@ -7362,6 +7375,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setJsonViewTypeName(val);
                     break;
                 }
+                case "lazy-load": {
+                    String val = asText(node);
+                    target.setLazyLoad(val);
+                    break;
+                }
                 case "library": {
                     target.setLibrary(asEnum(node, org.apache.camel.model.dataformat.JsonLibrary.class));
                     break;
@@ -14841,6 +14859,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "on-prepare-ref", type = "string"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
+                    @YamlProperty(name = "parallel-window-size", type = "number"),
                     @YamlProperty(name = "share-unit-of-work", type = "boolean"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
                     @YamlProperty(name = "stop-on-aggregate-exception", type = "boolean"),
@@ -14849,6 +14868,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "strategy-method-name", type = "string"),
                     @YamlProperty(name = "strategy-ref", type = "string"),
                     @YamlProperty(name = "streaming", type = "boolean"),
+                    @YamlProperty(name = "streaming-ordered", type = "boolean"),
                     @YamlProperty(name = "timeout", type = "string")
             }
     )
@@ -14901,6 +14921,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setParallelProcessing(val);
                     break;
                 }
+                case "parallel-window-size": {
+                    String val = asText(node);
+                    target.setParallelWindowSize(val);
+                    break;
+                }
                 case "share-unit-of-work": {
                     String val = asText(node);
                     target.setShareUnitOfWork(val);
@@ -14936,6 +14961,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setStreaming(val);
                     break;
                 }
+                case "streaming-ordered": {
+                    String val = asText(node);
+                    target.setStreamingOrdered(val);
+                    break;
+                }
                 case "timeout": {
                     String val = asText(node);
                     target.setTimeout(val);